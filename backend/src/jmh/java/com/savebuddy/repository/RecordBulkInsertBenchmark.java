@@ -0,0 +1,124 @@
+package com.savebuddy.repository;
+
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.entity.User;
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.h2.tools.Server;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 100건 일괄 등록 처리량 (H2 MySQL 모드를 TCP 로 접속해 문장당 왕복 비용 포함, batch_size 50)
+ * - identityInsert: 기존 방식 (IDENTITY, INSERT 마다 즉시 실행되어 배치 불가)
+ * - pooledInsert: SavingRecord (id_sequences pooled-lo 생성기, 배치 INSERT)
+ * 두 엔티티는 ID 생성 방식만 다름
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecordBulkInsertBenchmark {
+
+    private static final int BATCH = 100;
+
+    private Server server;
+
+    private SessionFactory sessionFactory;
+
+    private Long userId;
+
+    @Entity
+    @Table(name = "identity_saving_records")
+    public static class IdentitySavingRecord {
+
+        @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private Long amount;
+
+        private String category;
+
+        @CreationTimestamp
+        private LocalDateTime createdAt;
+
+        private String itemName;
+
+        private String memo;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "user_id")
+        private User user;
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(SavingRecord.class)
+                .addAnnotatedClass(IdentitySavingRecord.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                // 스프링 부트와 같은 컬럼 이름 규칙 (createdAt -> created_at)
+                .setProperty("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+                .setProperty("jakarta.persistence.validation.mode", "none")
+                .buildSessionFactory();
+
+        User user = new User();
+        user.setEmail("bench@savebuddy.com");
+        user.setUsername("bench");
+        sessionFactory.inTransaction(session -> session.persist(user));
+        userId = user.getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public void identityInsert() {
+        sessionFactory.inTransaction(session -> {
+            User user = session.getReference(User.class, userId);
+            for (int i = 0; i < BATCH; i++) {
+                IdentitySavingRecord record = new IdentitySavingRecord();
+                record.amount = 1000L;
+                record.category = "음식";
+                record.itemName = "커피";
+                record.user = user;
+                session.persist(record);
+            }
+        });
+    }
+
+    @Benchmark
+    public void pooledInsert() {
+        sessionFactory.inTransaction(session -> {
+            User user = session.getReference(User.class, userId);
+            for (int i = 0; i < BATCH; i++) {
+                session.persist(newRecord(user));
+            }
+        });
+    }
+
+    private SavingRecord newRecord(User user) {
+        SavingRecord record = new SavingRecord();
+        record.setAmount(1000L);
+        record.setCategory("음식");
+        record.setItemName("커피");
+        record.setUser(user);
+        return record;
+    }
+}
@@ -0,0 +1,115 @@
+package com.savebuddy.security;
+
+import com.savebuddy.entity.User;
+import com.savebuddy.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건당 JWT 필터 비용
+ * - legacyDoubleParse: 기존 방식 (요청마다 키/파서를 새로 만들고 토큰을 두 번 파싱)
+ * - filterSinglePass: JwtAuthenticationFilter (캐시된 파서로 1회 검증, 검증 캐시 미사용)
+ * - filterCachedToken: JwtAuthenticationFilter (검증 캐시 사용, 같은 토큰 반복 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "mySecretKey1234567890123456789012345678901234567890";
+
+    private JwtAuthenticationFilter filter;
+
+    private JwtAuthenticationFilter cachedFilter;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        filter = newFilter(false);
+        cachedFilter = newFilter(true);
+    }
+
+    private JwtAuthenticationFilter newFilter(boolean tokenCacheEnabled) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCache",
+                new VerifiedTokenCache(tokenCacheEnabled, 10000, 10000, new SimpleMeterRegistry()));
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(jwtFilter, "jwtService", jwtService);
+
+        if (token == null) {
+            User user = new User();
+            user.setId(1L);
+            user.setEmail("bench@savebuddy.com");
+            token = jwtService.generateToken(user);
+        }
+        return jwtFilter;
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/savings/today");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        try {
+            String bearer = request.getHeader("Authorization").substring(7);
+            String email = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(bearer)
+                    .getBody()
+                    .getSubject();
+
+            Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(bearer);
+
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(email, null, new ArrayList<>());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object filterSinglePass() throws Exception {
+        return runFilter(filter);
+    }
+
+    @Benchmark
+    public Object filterCachedToken() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter jwtFilter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/savings/today");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        try {
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.OAuth2UserRepository;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 챌린지 완료 동시 처리량 (8 스레드, 사용자 100명, H2 MySQL 모드를 TCP 로 접속)
+ * - globalLock: 기존 방식 (JVM 전역 synchronized 와 같은 단일 잠금 안에서 처리)
+ * - lockFree: ChallengeCompletionService (INSERT ... ON DUPLICATE KEY, 잠금 없음)
+ * 요청의 1/4 은 이미 완료된 챌린지 재요청
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ChallengeCompletionBenchmark {
+
+    private static final int USERS = 100;
+
+    private final ReentrantLock globalLock = new ReentrantLock();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Server server;
+
+    private ConfigurableApplicationContext context;
+
+    private ChallengeCompletionService challengeCompletionService;
+
+    private List<User> users;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.savebuddy.entity")
+    @EnableJpaRepositories("com.savebuddy.repository")
+    @Import({ChallengeCompletionService.class, PeriodWindow.class})
+    static class BenchmarkConfig {
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+                .run(
+                        "--spring.datasource.url=jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:completion;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        challengeCompletionService = context.getBean(ChallengeCompletionService.class);
+        OAuth2UserRepository userRepository = context.getBean(OAuth2UserRepository.class);
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail("bench" + i + "@savebuddy.com");
+            user.setUsername("bench" + i);
+            users.add(userRepository.save(user));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public ChallengeCompletion globalLock() {
+        globalLock.lock();
+        try {
+            return complete();
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    @Benchmark
+    public ChallengeCompletion lockFree() {
+        return complete();
+    }
+
+    private ChallengeCompletion complete() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        User user = users.get(random.nextInt(USERS));
+        long next = sequence.incrementAndGet();
+        // 4번 중 1번은 이미 완료된 챌린지
+        long challenge = next % 4 == 0 ? Math.max(1, next - 4) : next;
+        return challengeCompletionService.completeChallenge(
+                user, "challenge-" + challenge, "챌린지", ChallengePeriod.DAILY, 100);
+    }
+}
@@ -0,0 +1,125 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.service.ChallengeRule.Condition;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 1건당 챌린지 평가 비용 (활성 챌린지 10,000개, 카테고리 20개, DB 제외)
+ * - fullScan: 기록마다 모든 챌린지 조건을 누적 값과 비교
+ * - incremental: ChallengeCounters + ChallengeRuleIndex (새로 넘어선 목표만 이진 탐색)
+ * 50건마다 날짜를 넘겨 일별/주별/월별 구간이 바뀌도록 함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChallengeRuleEngineBenchmark {
+
+    private static final int CATEGORIES = 20;
+
+    private static final int RECORDS_PER_DAY = 50;
+
+    @Param("10000")
+    private int rules;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private String[] categories;
+
+    private List<ChallengeRule> ruleList;
+
+    private ChallengeRuleIndex index;
+
+    private ChallengeCounters counters;
+
+    private Map<String, long[]> scanTotals;
+
+    private LocalDate scanBucket;
+
+    private LocalDate date;
+
+    private int recorded;
+
+    @Setup
+    public void setUp() {
+        categories = new String[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories[i] = "category-" + i;
+        }
+
+        ChallengePeriod[] periods = ChallengePeriod.values();
+        ruleList = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            ChallengePeriod period = periods[i % periods.length];
+            String category = i % 4 == 0 ? null : categories[random.nextInt(CATEGORIES)];
+            ruleList.add(switch (i % 10) {
+                case 0 -> new ChallengeRule("rule-" + i, "연속", period, Condition.STREAK, null, 1 + random.nextInt(60), 100);
+                case 1, 2 -> new ChallengeRule("rule-" + i, "횟수", period, Condition.COUNT, category, 1 + random.nextInt(100), 100);
+                default -> new ChallengeRule("rule-" + i, "금액", period, Condition.AMOUNT, category, 1 + random.nextInt(500_000), 100);
+            });
+        }
+
+        index = new ChallengeRuleIndex(ruleList);
+        counters = new ChallengeCounters();
+        scanTotals = new HashMap<>();
+        date = LocalDate.of(2025, 1, 1);
+    }
+
+    @Benchmark
+    public int incremental() {
+        String category = nextRecord();
+        return counters.record(index, date, category, 1000 + random.nextInt(9000), 1).size();
+    }
+
+    @Benchmark
+    public int fullScan() {
+        String category = nextRecord();
+        long amount = 1000 + random.nextInt(9000);
+
+        // 단순화를 위해 일별 구간 합계만 유지하고 모든 조건을 비교
+        if (!date.equals(scanBucket)) {
+            scanTotals.clear();
+            scanBucket = date;
+        }
+        long[] all = scanTotals.computeIfAbsent(null, key -> new long[2]);
+        long[] byCategory = scanTotals.computeIfAbsent(category, key -> new long[2]);
+        long allBefore = all[0];
+        long categoryBefore = byCategory[0];
+        all[0] += amount;
+        all[1]++;
+        byCategory[0] += amount;
+        byCategory[1]++;
+
+        int achieved = 0;
+        for (ChallengeRule rule : ruleList) {
+            if (rule.condition() != Condition.AMOUNT) {
+                continue;
+            }
+            boolean allCategories = rule.category() == null;
+            if (!allCategories && !rule.category().equals(category)) {
+                continue;
+            }
+            long before = allCategories ? allBefore : categoryBefore;
+            long after = allCategories ? all[0] : byCategory[0];
+            if (before < rule.target() && rule.target() <= after) {
+                achieved++;
+            }
+        }
+        return achieved;
+    }
+
+    private String nextRecord() {
+        if (++recorded % RECORDS_PER_DAY == 0) {
+            date = date.plusDays(1);
+        }
+        return categories[random.nextInt(CATEGORIES)];
+    }
+}
@@ -0,0 +1,128 @@
+package com.savebuddy.service;
+
+import com.savebuddy.config.AsyncConfig;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.OAuth2UserRepository;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 화면 데이터 조회 비용 (H2 MySQL 모드를 TCP 로 접속해 쿼리당 왕복 비용 포함, HTTP 제외)
+ * - individualCalls: 기존 방식 (/me + 절약/소비 today, month, latest, week, category = 서비스 호출 11회)
+ * - dashboard: DashboardService (조회 4회, 병렬)
+ * 스프링 컨텍스트 워밍업이 길어 -Pjmh.warmupIterations=10 이상 권장
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardBenchmark {
+
+    private Server server;
+
+    private ConfigurableApplicationContext context;
+
+    private SavingRecordService savingRecordService;
+
+    private ExpenseRecordService expenseRecordService;
+
+    private OAuth2UserService oAuth2UserService;
+
+    private DashboardService dashboardService;
+
+    private Long userId;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.savebuddy.entity")
+    @EnableJpaRepositories("com.savebuddy.repository")
+    @Import({SavingRecordService.class, ExpenseRecordService.class, RecordRollupService.class,
+            OAuth2UserService.class, UserIdentityCache.class, DashboardService.class, AsyncConfig.class,
+            PeriodWindow.class})
+    static class BenchmarkConfig {
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+                .run(
+                        "--spring.datasource.url=jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:dashboard;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        savingRecordService = context.getBean(SavingRecordService.class);
+        expenseRecordService = context.getBean(ExpenseRecordService.class);
+        oAuth2UserService = context.getBean(OAuth2UserService.class);
+        dashboardService = context.getBean(DashboardService.class);
+        RecordRollupService recordRollupService = context.getBean(RecordRollupService.class);
+
+        User user = new User();
+        user.setEmail("bench@savebuddy.com");
+        user.setUsername("bench");
+        userId = context.getBean(OAuth2UserRepository.class).save(user).getId();
+
+        // 오늘 기록 20건 + 1년치 일별 집계 (카테고리 4개)
+        for (int i = 0; i < 20; i++) {
+            savingRecordService.createSavingRecord(userId, "커피", 1000L, "음식", null);
+            expenseRecordService.createExpenseRecord(userId, "택시", 700L, "교통", null);
+        }
+        String[] categories = {"음식", "교통", "쇼핑", "기타"};
+        LocalDate today = LocalDate.now();
+        for (int daysAgo = 1; daysAgo <= 365; daysAgo++) {
+            for (String category : categories) {
+                recordRollupService.apply(userId, RecordType.SAVING, today.minusDays(daysAgo).atTime(12, 0), category, 500L, 1);
+                recordRollupService.apply(userId, RecordType.EXPENSE, today.minusDays(daysAgo).atTime(12, 0), category, 300L, 1);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public void individualCalls(Blackhole blackhole) {
+        blackhole.consume(oAuth2UserService.findById(userId));
+
+        blackhole.consume(savingRecordService.todayRecords(userId, false));
+        blackhole.consume(savingRecordService.monthRecords(userId, false));
+        blackhole.consume(savingRecordService.getLatestRecords(userId, 3));
+        blackhole.consume(savingRecordService.getWeekRecordsStatus(userId));
+        blackhole.consume(savingRecordService.getCategorySavingsStats(userId));
+
+        blackhole.consume(expenseRecordService.todayRecords(userId, false));
+        blackhole.consume(expenseRecordService.monthRecords(userId, false));
+        blackhole.consume(expenseRecordService.getLatestRecords(userId, 3));
+        blackhole.consume(expenseRecordService.getWeekRecordsStatus(userId));
+        blackhole.consume(expenseRecordService.getCategorySavingsStats(userId));
+    }
+
+    @Benchmark
+    public Object dashboard() {
+        return dashboardService.getDashboard(userId).join();
+    }
+}
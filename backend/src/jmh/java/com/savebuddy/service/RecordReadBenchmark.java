@@ -0,0 +1,123 @@
+package com.savebuddy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savebuddy.dto.SavingRecordDto;
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.OAuth2UserRepository;
+import jakarta.persistence.EntityManager;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 목록 조회 1회 비용 (H2 MySQL 모드를 TCP 로 접속, JSON 직렬화 포함, HTTP 제외)
+ * - entities: 기존 방식 (읽기/쓰기 트랜잭션에서 관리 엔티티 조회 → 스냅샷 + 종료 시 dirty checking)
+ * - projections: SavingRecordService.pageRecords (읽기 전용 트랜잭션 + RecordView 생성자 프로젝션)
+ * 할당량은 -Pjmh.profilers=gc 로 확인 (gc.alloc.rate.norm = 요청당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordReadBenchmark {
+
+    private static final int RECORDS = 1000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Server server;
+
+    private ConfigurableApplicationContext context;
+
+    private SavingRecordService savingRecordService;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private ObjectMapper objectMapper;
+
+    private Long userId;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.savebuddy.entity")
+    @EnableJpaRepositories("com.savebuddy.repository")
+    @Import({SavingRecordService.class, RecordRollupService.class, PeriodWindow.class})
+    static class BenchmarkConfig {
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+                .run(
+                        "--spring.datasource.url=jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:records;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        savingRecordService = context.getBean(SavingRecordService.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        User user = new User();
+        user.setEmail("bench@savebuddy.com");
+        user.setUsername("bench");
+        userId = context.getBean(OAuth2UserRepository.class).save(user).getId();
+
+        List<SavingRecordDto> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(SavingRecordDto.builder()
+                    .itemName("커피").amount(1000L).category("음식").memo("메모 " + i).build());
+        }
+        for (int i = 0; i < RECORDS / batch.size(); i++) {
+            savingRecordService.createSavingRecords(userId, batch);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public byte[] entities() throws JsonProcessingException {
+        List<SavingRecord> records = transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT sr FROM SavingRecord sr WHERE sr.user.id = :userId " +
+                        "ORDER BY sr.createdAt DESC, sr.id DESC", SavingRecord.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize + 1)
+                .getResultList());
+        return objectMapper.writeValueAsBytes(records.subList(0, pageSize));
+    }
+
+    @Benchmark
+    public byte[] projections() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(savingRecordService.pageRecords(userId, null, pageSize).getData());
+    }
+}
@@ -3,12 +3,18 @@ package com.savebuddy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.TimeZone;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class SaveBuddyApplication {
 
 	public static void main(String[] args) {
+		// 저장 시각(createdAt 등)은 UTC 기준, 사용자 날짜는 PeriodWindow 에서 변환
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
 		SpringApplication.run(SaveBuddyApplication.class, args);
 	}
 
@@ -0,0 +1,29 @@
+package com.savebuddy.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 대시보드 병렬 조회용 스레드 풀
+     * 분기마다 DB 커넥션을 하나씩 쓰므로 커넥션 풀(기본 10)보다 작게 유지하고,
+     * 대기열이 가득 차면 거절 → 해당 분기만 실패로 표시
+     */
+    @Bean
+    public Executor dashboardExecutor(@Value("${DASHBOARD_EXECUTOR_POOL_SIZE:8}") int poolSize,
+                                      @Value("${DASHBOARD_EXECUTOR_QUEUE_CAPACITY:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,139 +1,240 @@
-//package com.savebuddy.controller;
-//
-//import jakarta.servlet.http.HttpSession;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.http.ResponseEntity;
-//import org.springframework.web.bind.annotation.*;
-//import com.savebuddy.entity.ChallengeCompletion;
-//import com.savebuddy.entity.User;
-//import com.savebuddy.service.ChallengeCompletionService;
-//import com.savebuddy.service.UserService;
-//
-//import java.util.HashMap;
-//import java.util.List;
-//import java.util.Map;
-//
-//@RestController
-//@RequestMapping("/api/challenges")
-//@RequiredArgsConstructor
-//@Slf4j
-//@CrossOrigin(origins = "https://stop-save.vercel.app", allowCredentials = "true")
-//public class ChallengeCompletionController {
-//
-//    private final ChallengeCompletionService challengeCompletionService;
-//    private final UserService userService;
-//
-//    /**
-//     * 챌린지 완료 기록
-//     */
-//    @PostMapping("/complete")
-//    public ResponseEntity<?> completeChallenge(@RequestBody ChallengeCompletionRequest request,
-//                                             HttpSession session) {
-//        try {
-//            User currentUser = userService.getCurrentUser(session);
-//            if (currentUser == null) {
-//                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
-//            }
-//
-//            ChallengeCompletion completion = challengeCompletionService.completeChallenge(
-//                    currentUser,
-//                    request.getChallengeId(),
-//                    request.getChallengeTitle(),
-//                    ChallengeCompletion.ChallengePeriod.valueOf(request.getPeriod().toUpperCase()),
-//                    request.getRewardAmount()
-//            );
-//
-//            Map<String, Object> response = new HashMap<>();
-//            response.put("success", true);
-//            response.put("completion", completion);
-//            response.put("message", "챌린지가 완료되었습니다!");
-//
-//            return ResponseEntity.ok(response);
-//
-//        } catch (Exception e) {
-//            log.error("챌린지 완료 처리 실패", e);
-//            return ResponseEntity.status(500).body(Map.of("error", "챌린지 완료 처리에 실패했습니다."));
-//        }
-//    }
-//
-//    /**
-//     * 사용자의 챌린지 완료 기록 조회
-//     */
-//    @GetMapping("/completions")
-//    public ResponseEntity<?> getChallengeCompletions(HttpSession session) {
-//        try {
-//            User currentUser = userService.getCurrentUser(session);
-//            if (currentUser == null) {
-//                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
-//            }
-//
-//            List<ChallengeCompletion> completions = challengeCompletionService.getUserChallengeCompletions(currentUser);
-//
-//            Map<String, Object> response = new HashMap<>();
-//            response.put("completions", completions);
-//            response.put("totalCount", challengeCompletionService.getTotalCompletionCount(currentUser));
-//            response.put("totalRewards", challengeCompletionService.getTotalRewards(currentUser));
-//
-//            return ResponseEntity.ok(response);
-//
-//        } catch (Exception e) {
-//            log.error("챌린지 완료 기록 조회 실패", e);
-//            return ResponseEntity.status(500).body(Map.of("error", "챌린지 완료 기록 조회에 실패했습니다."));
-//        }
-//    }
-//
-//    /**
-//     * 특정 챌린지 완료 상태 확인
-//     */
-//    @GetMapping("/status/{challengeId}")
-//    public ResponseEntity<?> getChallengeStatus(@PathVariable String challengeId,
-//                                              @RequestParam String period,
-//                                              HttpSession session) {
-//        try {
-//            User currentUser = userService.getCurrentUser(session);
-//            if (currentUser == null) {
-//                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
-//            }
-//
-//            boolean isCompleted = challengeCompletionService.isRecentlyCompleted(
-//                    currentUser,
-//                    challengeId,
-//                    ChallengeCompletion.ChallengePeriod.valueOf(period.toUpperCase())
-//            );
-//
-//            Map<String, Object> response = new HashMap<>();
-//            response.put("challengeId", challengeId);
-//            response.put("isCompleted", isCompleted);
-//
-//            return ResponseEntity.ok(response);
-//
-//        } catch (Exception e) {
-//            log.error("챌린지 상태 확인 실패", e);
-//            return ResponseEntity.status(500).body(Map.of("error", "챌린지 상태 확인에 실패했습니다."));
-//        }
-//    }
-//
-//    /**
-//     * 챌린지 완료 요청 DTO
-//     */
-//    public static class ChallengeCompletionRequest {
-//        private String challengeId;
-//        private String challengeTitle;
-//        private String period;
-//        private Integer rewardAmount;
-//
-//        // Getters and Setters
-//        public String getChallengeId() { return challengeId; }
-//        public void setChallengeId(String challengeId) { this.challengeId = challengeId; }
-//
-//        public String getChallengeTitle() { return challengeTitle; }
-//        public void setChallengeTitle(String challengeTitle) { this.challengeTitle = challengeTitle; }
-//
-//        public String getPeriod() { return period; }
-//        public void setPeriod(String period) { this.period = period; }
-//
-//        public Integer getRewardAmount() { return rewardAmount; }
-//        public void setRewardAmount(Integer rewardAmount) { this.rewardAmount = rewardAmount; }
-//    }
-//}
+package com.savebuddy.controller;
+
+import com.savebuddy.dto.ChallengeDto;
+import com.savebuddy.entity.ChallengeCompletion;
+import com.savebuddy.entity.User;
+import com.savebuddy.security.AuthUser;
+import com.savebuddy.service.ChallengeCatalogService;
+import com.savebuddy.service.ChallengeCompletionService;
+import com.savebuddy.service.ChallengeStatusService;
+import com.savebuddy.service.OAuth2UserService;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/challenges")
+@Slf4j
+public class ChallengeCompletionController {
+
+    @Autowired
+    private ChallengeCompletionService challengeCompletionService;
+
+    @Autowired
+    private ChallengeCatalogService challengeCatalogService;
+
+    @Autowired
+    private ChallengeStatusService challengeStatusService;
+
+    @Autowired
+    private OAuth2UserService oAuth2UserService;
+
+    /**
+     * Authentication에서 사용자 id를 추출하는 유틸리티 메서드
+     */
+    private Long getUserIdFromAuthentication(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+
+        // JWT 기반 인증 (토큰에 사용자 id 포함)
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.id();
+        }
+        // OAuth2 기반 인증
+        else if (authentication.getPrincipal() instanceof OidcUser oidcUser) {
+            return oAuth2UserService.getUserId(oidcUser.getEmail());
+        }
+
+        return null;
+    }
+
+    /**
+     * Authentication에서 사용자를 조회하는 유틸리티 메서드
+     */
+    private User getUserFromAuthentication(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+
+        // JWT 기반 인증 (토큰에 사용자 id 포함)
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
+            return oAuth2UserService.findById(authUser.id()).orElse(null);
+        }
+        // OAuth2 기반 인증
+        else if (authentication.getPrincipal() instanceof OidcUser oidcUser) {
+            return oAuth2UserService.findByEmail(oidcUser.getEmail()).orElse(null);
+        }
+
+        return null;
+    }
+
+    /**
+     * 챌린지 완료 기록
+     * 목록에 있는 챌린지면 제목/보상/기간은 서버 값 사용 (기록 등록 시 서버에서도 자동 완료됨)
+     */
+    @PostMapping("/complete")
+    public ResponseEntity<?> completeChallenge(@RequestBody ChallengeCompletionRequest request,
+                                               Authentication authentication) {
+        try {
+            User currentUser = getUserFromAuthentication(authentication);
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
+            }
+
+            ChallengeCompletion.ChallengePeriod period;
+            try {
+                period = parsePeriod(request.getPeriod());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", "챌린지 기간이 올바르지 않습니다."));
+            }
+            String title = request.getChallengeTitle();
+            Integer rewardAmount = request.getRewardAmount();
+            ChallengeDto challenge = findChallenge(request.getChallengeId());
+            if (challenge != null) {
+                // 기간은 중복 완료 판단 기준이므로 목록 값과 다르면 거부 (생략하면 목록 값)
+                if (period != null && period != challenge.period()) {
+                    return ResponseEntity.badRequest()
+                            .body(Map.of("error", "챌린지 기간이 일치하지 않습니다: " + challenge.period()));
+                }
+                period = challenge.period();
+                title = challenge.title();
+                rewardAmount = challenge.experienceReward();
+            } else if (period == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "챌린지 기간이 필요합니다."));
+            }
+
+            ChallengeCompletion completion = challengeCompletionService.completeChallenge(
+                    currentUser,
+                    request.getChallengeId(),
+                    title,
+                    period,
+                    rewardAmount
+            );
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("completion", completion);
+            response.put("message", "챌린지가 완료되었습니다!");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("챌린지 완료 처리 실패", e);
+            return ResponseEntity.status(500).body(Map.of("error", "챌린지 완료 처리에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 사용자의 챌린지 완료 기록 조회
+     */
+    @GetMapping("/completions")
+    public ResponseEntity<?> getChallengeCompletions(Authentication authentication) {
+        try {
+            User currentUser = getUserFromAuthentication(authentication);
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
+            }
+
+            List<ChallengeCompletion> completions = challengeCompletionService.getUserChallengeCompletions(currentUser);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("completions", completions);
+            response.put("totalCount", challengeCompletionService.getTotalCompletionCount(currentUser));
+            response.put("totalRewards", challengeCompletionService.getTotalRewards(currentUser));
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("챌린지 완료 기록 조회 실패", e);
+            return ResponseEntity.status(500).body(Map.of("error", "챌린지 완료 기록 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 활성 챌린지 전체의 완료 상태 (목록 화면용, 챌린지마다 /status/{challengeId} 를 호출하지 않도록)
+     */
+    @GetMapping("/status")
+    public ResponseEntity<?> getChallengeStatuses(Authentication authentication) {
+        try {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
+                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
+            }
+
+            return ResponseEntity.ok(challengeStatusService.getStatuses(userId));
+
+        } catch (Exception e) {
+            log.error("챌린지 상태 일괄 확인 실패", e);
+            return ResponseEntity.status(500).body(Map.of("error", "챌린지 상태 확인에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 특정 챌린지 완료 상태 확인
+     */
+    @GetMapping("/status/{challengeId}")
+    public ResponseEntity<?> getChallengeStatus(@PathVariable String challengeId,
+                                                @RequestParam String period,
+                                                Authentication authentication) {
+        try {
+            User currentUser = getUserFromAuthentication(authentication);
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
+            }
+
+            boolean isCompleted = challengeCompletionService.isRecentlyCompleted(
+                    currentUser,
+                    challengeId,
+                    ChallengeCompletion.ChallengePeriod.valueOf(period.toUpperCase())
+            );
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("challengeId", challengeId);
+            response.put("isCompleted", isCompleted);
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("챌린지 상태 확인 실패", e);
+            return ResponseEntity.status(500).body(Map.of("error", "챌린지 상태 확인에 실패했습니다."));
+        }
+    }
+
+    // 요청의 기간 (생략하면 null, 알 수 없는 값이면 IllegalArgumentException)
+    private ChallengeCompletion.ChallengePeriod parsePeriod(String period) {
+        if (period == null || period.isBlank()) {
+            return null;
+        }
+        return ChallengeCompletion.ChallengePeriod.valueOf(period.toUpperCase());
+    }
+
+    // 완료 요청의 challengeId 는 챌린지 목록의 id (숫자가 아니면 목록 외 챌린지)
+    private ChallengeDto findChallenge(String challengeId) {
+        try {
+            return challengeCatalogService.snapshot().byId().get(Long.valueOf(challengeId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 챌린지 완료 요청 DTO
+     */
+    @Getter @Setter
+    public static class ChallengeCompletionRequest {
+        private String challengeId;
+        private String challengeTitle;
+        private String period;
+        private Integer rewardAmount;
+    }
+}
@@ -0,0 +1,72 @@
+package com.savebuddy.controller;
+
+import com.savebuddy.dto.ChallengeDto;
+import com.savebuddy.service.ChallengeCatalogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챌린지 목록 조회 (메모리 스냅샷 + ETag, If-None-Match 가 같으면 304)
+ */
+@RestController
+@RequestMapping("/api/challenges")
+public class ChallengeController {
+
+    @Autowired
+    private ChallengeCatalogService challengeCatalogService;
+
+    // 브라우저 캐시 유지 시간 (이후에는 ETag 로 재검증)
+    @Value("${CHALLENGE_CATALOG_MAX_AGE_SECONDS:60}")
+    private long maxAgeSeconds;
+
+    /**
+     * 활성 챌린지 전체
+     * @return
+     */
+    @GetMapping
+    public ResponseEntity<List<ChallengeDto>> getActiveChallenges() {
+        ChallengeCatalogService.Snapshot snapshot = challengeCatalogService.snapshot();
+        return cached(snapshot).body(snapshot.challenges());
+    }
+
+    /**
+     * 챌린지 상세
+     * @return
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getChallenge(@PathVariable Long id) {
+        ChallengeCatalogService.Snapshot snapshot = challengeCatalogService.snapshot();
+        ChallengeDto challenge = snapshot.byId().get(id);
+        if (challenge == null) {
+            return ResponseEntity.status(404).body(Map.of("error", "챌린지를 찾을 수 없습니다."));
+        }
+        return cached(snapshot).body(challenge);
+    }
+
+    /**
+     * 기간(일)별 챌린지
+     * @return
+     */
+    @GetMapping("/duration/{duration}")
+    public ResponseEntity<List<ChallengeDto>> getChallengesByDuration(@PathVariable Integer duration) {
+        ChallengeCatalogService.Snapshot snapshot = challengeCatalogService.snapshot();
+        return cached(snapshot).body(snapshot.byDuration().getOrDefault(duration, List.of()));
+    }
+
+    // 목록이 바뀌면 ETag 도 바뀜 (모든 조회가 같은 ETag 사용)
+    private ResponseEntity.BodyBuilder cached(ChallengeCatalogService.Snapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate());
+    }
+}
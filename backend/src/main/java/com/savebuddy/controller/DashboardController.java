@@ -0,0 +1,67 @@
+package com.savebuddy.controller;
+
+import com.savebuddy.dto.DashboardDto;
+import com.savebuddy.security.AuthUser;
+import com.savebuddy.service.DashboardService;
+import com.savebuddy.service.OAuth2UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private OAuth2UserService oAuth2UserService;
+
+    /**
+     * Authentication에서 사용자 id를 추출하는 유틸리티 메서드
+     */
+    private Long getUserIdFromAuthentication(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+
+        // JWT 기반 인증 (토큰에 사용자 id 포함)
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.id();
+        }
+        // OAuth2 기반 인증
+        else if (authentication.getPrincipal() instanceof OidcUser oidcUser) {
+            return oAuth2UserService.getUserId(oidcUser.getEmail());
+        }
+
+        return null;
+    }
+
+    /**
+     * 홈 화면 데이터 한 번에 조회
+     * (/api/users/me + 절약/소비 today, month, latest, week, category 를 대체)
+     * @return
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<?>> getDashboard(Authentication authentication) {
+        Long userId = getUserIdFromAuthentication(authentication);
+        if (userId == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(401)
+                    .body(Map.of("error", "Unauthorized", "message", "Authentication required")));
+        }
+
+        // 조회가 끝날 때까지 요청 스레드를 점유하지 않음 (일부 실패 시에도 200 + partial)
+        return dashboardService.getDashboard(userId)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(e -> ResponseEntity.status(500)
+                        .body(Map.of("error", "Failed to get Dashboard")));
+    }
+}
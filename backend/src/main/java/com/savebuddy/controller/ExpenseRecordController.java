@@ -1,45 +1,86 @@
 package com.savebuddy.controller;
 
+import com.savebuddy.dto.CategoryStat;
+import com.savebuddy.dto.CursorPageDto;
+import com.savebuddy.dto.DailySeries;
+import com.savebuddy.dto.IdempotentResponse;
 import com.savebuddy.dto.ExpenseRecordDto;
 import com.savebuddy.dto.ExpenseRecordInfoDto;
 import com.savebuddy.dto.RecordInfoDto;
+import com.savebuddy.dto.RecordView;
 import com.savebuddy.dto.SavingRecordDto;
-import com.savebuddy.entity.ExpenseRecord;
 import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.security.AuthUser;
 import com.savebuddy.service.ExpenseRecordService;
+import com.savebuddy.service.IdempotencyKeyMismatchException;
+import com.savebuddy.service.IdempotencyService;
+import com.savebuddy.service.OAuth2UserService;
+import com.savebuddy.service.RecordExportService;
+import com.savebuddy.service.RecordJsonStreamService;
 import com.savebuddy.service.SavingRecordService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/expense")
 public class ExpenseRecordController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_LATEST_COUNT = 20;
+
+    // 일자별 통계 최대 일수
+    private static final int MAX_SERIES_DAYS = 366;
+
+    private static final int MAX_BATCH_SIZE = 100;
+
     @Autowired
     private ExpenseRecordService expenseRecordService;
 
+    @Autowired
+    private OAuth2UserService oAuth2UserService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private RecordExportService recordExportService;
+
+    @Autowired
+    private RecordJsonStreamService recordJsonStreamService;
+
     /**
-     * Authentication에서 이메일을 추출하는 유틸리티 메서드
+     * Authentication에서 사용자 id를 추출하는 유틸리티 메서드
      */
-    private String getEmailFromAuthentication(Authentication authentication) {
+    private Long getUserIdFromAuthentication(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
 
-        // JWT 기반 인증
-        if (authentication.getPrincipal() instanceof String email) {
-            return email;
+        // JWT 기반 인증 (토큰에 사용자 id 포함)
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.id();
         }
         // OAuth2 기반 인증
         else if (authentication.getPrincipal() instanceof OidcUser oidcUser) {
-            return oidcUser.getEmail();
+            return oAuth2UserService.getUserId(oidcUser.getEmail());
         }
 
         return null;
@@ -50,22 +91,64 @@ public class ExpenseRecordController {
      * @return
      */
     @PostMapping("/record")
-    public ResponseEntity<?> createExpenseRecord(@RequestBody ExpenseRecordDto request, Authentication authentication) {
+    public ResponseEntity<?> createExpenseRecord(@RequestBody ExpenseRecordDto request,
+                                                @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                Authentication authentication) {
         try {
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            ExpenseRecord record = expenseRecordService.createExpenseRecord(
-                    email,
+            Supplier<RecordView> create = () -> RecordView.from(expenseRecordService.createExpenseRecord(
+                    userId,
                     request.getItemName(),
                     request.getAmount(),
                     request.getCategory(),
                     request.getMemo()
-            );
-            return ResponseEntity.ok(record);
+            ));
+
+            if (idempotencyKey == null) {
+                return ResponseEntity.ok(create.get());
+            }
+
+            // 재시도 요청: 같은 키면 기록/합계를 다시 반영하지 않고 최초 응답을 돌려줌
+            IdempotentResponse response = idempotencyService.execute(
+                    userId, idempotencyKey, "POST /api/expense/record", request, create);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Idempotent-Replayed", String.valueOf(response.replayed()))
+                    .body(response.body());
+        } catch (IdempotencyKeyMismatchException e) {
+            return ResponseEntity.unprocessableEntity().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 소비 일괄 등록 (최대 {@value MAX_BATCH_SIZE}건, 하나라도 잘못되면 전체 거부)
+     * @return
+     */
+    @PostMapping("/records")
+    public ResponseEntity<?> createExpenseRecords(@RequestBody List<ExpenseRecordDto> requests, Authentication authentication) {
+        try {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
+            }
+
+            if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Batch size must be between 1 and " + MAX_BATCH_SIZE));
+            }
+
+            List<RecordView> records = expenseRecordService.createExpenseRecords(userId, requests).stream()
+                    .map(RecordView::from)
+                    .toList();
+            return ResponseEntity.ok(records);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -78,14 +161,17 @@ public class ExpenseRecordController {
     @GetMapping("/all")
     public ResponseEntity<?> allRecords(Authentication authentication){
         try{
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            List<ExpenseRecord> results = expenseRecordService.allRecords(email);
-            return ResponseEntity.ok(results);
+            // 목록을 만들지 않고 DB 커서에서 읽는 대로 직렬화
+            StreamingResponseBody body = out -> recordJsonStreamService.writeAll(userId, RecordType.EXPENSE, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
 
         } catch (Exception e) {
             return ResponseEntity.status(500)
@@ -93,21 +179,88 @@ public class ExpenseRecordController {
         }
     }
 
+    /**
+     * 전체 소비 기록 CSV 내보내기 (DB 커서에서 읽는 대로 전송, 엑셀에서 열 수 있음)
+     * @return
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportRecords(Authentication authentication) {
+        try {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
+            }
+
+            ContentDisposition disposition = ContentDisposition.attachment()
+                    .filename(recordExportService.filename(userId, RecordType.EXPENSE), StandardCharsets.UTF_8)
+                    .build();
+            StreamingResponseBody body = out -> recordExportService.exportCsv(userId, RecordType.EXPENSE, out);
+
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                    .body(body);
+
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "Failed to export Records"));
+        }
+    }
+
+
+    /**
+     * 소비 기록 페이지 조회 (커서 기반)
+     * @return
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> pageRecords(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size,
+                                         Authentication authentication){
+        try{
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
+            }
+
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            CursorPageDto<RecordView> results = expenseRecordService.pageRecords(userId, cursor, pageSize);
+            return ResponseEntity.ok(results);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid cursor"));
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "Failed to get Records page"));
+        }
+    }
+
 
     /**
      * 오늘의 소비 조회
      * @return
      */
     @GetMapping("/today")
-    public ResponseEntity<?> todayRecords(Authentication authentication){
+    public ResponseEntity<?> todayRecords(@RequestParam(defaultValue = "false") boolean includeData,
+                                          Authentication authentication){
         try{
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            ExpenseRecordInfoDto results = expenseRecordService.todayRecords(email);
+            if (includeData) {
+                StreamingResponseBody body = out -> recordJsonStreamService.writePeriod(
+                        userId, RecordType.EXPENSE, ChallengePeriod.DAILY, out);
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body);
+            }
+
+            ExpenseRecordInfoDto results = expenseRecordService.todayRecords(userId, false);
             return ResponseEntity.ok(results);
 
         } catch (Exception e) {
@@ -121,15 +274,24 @@ public class ExpenseRecordController {
      * @return
      */
     @GetMapping("/month")
-    public ResponseEntity<?> monthRecords(Authentication authentication){
+    public ResponseEntity<?> monthRecords(@RequestParam(defaultValue = "false") boolean includeData,
+                                          Authentication authentication){
         try{
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            ExpenseRecordInfoDto results = expenseRecordService.monthRecords(email);
+            if (includeData) {
+                StreamingResponseBody body = out -> recordJsonStreamService.writePeriod(
+                        userId, RecordType.EXPENSE, ChallengePeriod.MONTHLY, out);
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body);
+            }
+
+            ExpenseRecordInfoDto results = expenseRecordService.monthRecords(userId, false);
             return ResponseEntity.ok(results);
 
         } catch (Exception e) {
@@ -140,19 +302,20 @@ public class ExpenseRecordController {
 
 
     /**
-     * 최근 3가지 소비 기록
+     * 최근 n가지 소비 기록 (기본 3건)
      * @return
      */
     @GetMapping("/latest")
-    public ResponseEntity<?> getLatestRecords(Authentication authentication){
+    public ResponseEntity<?> getLatestRecords(@RequestParam(defaultValue = "3") int n,
+                                              Authentication authentication){
         try{
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            List<ExpenseRecord> results = expenseRecordService.getLatestRecords(email);
+            List<RecordView> results = expenseRecordService.getLatestRecords(userId, Math.max(1, Math.min(n, MAX_LATEST_COUNT)));
             return ResponseEntity.ok(results);
 
         } catch (Exception e) {
@@ -168,13 +331,13 @@ public class ExpenseRecordController {
     @GetMapping("/week")
     public ResponseEntity<?> getWeekRecords(Authentication authentication){
         try{
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            Map<DayOfWeek, Long> results = expenseRecordService.getWeekRecordsStatus(email);
+            Map<DayOfWeek, Long> results = expenseRecordService.getWeekRecordsStatus(userId);
             return ResponseEntity.ok(results);
 
         } catch (Exception e) {
@@ -183,6 +346,34 @@ public class ExpenseRecordController {
         }
     }
 
+    /**
+     * 오늘을 포함한 최근 days 일 소비 일자별 총액 (사용자 시간대 날짜, 기록 없는 날은 0)
+     * amounts[i] 는 startDate + i 일의 총액
+     * @return
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<?> getDailySeries(@RequestParam(defaultValue = "7") int days,
+                                            Authentication authentication){
+        try{
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
+            }
+
+            if (days < 1 || days > MAX_SERIES_DAYS) {
+                return ResponseEntity.badRequest().body(Map.of("error", "days must be between 1 and " + MAX_SERIES_DAYS));
+            }
+
+            DailySeries results = expenseRecordService.getDailySeries(userId, days);
+            return ResponseEntity.ok(results);
+
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "Failed to get Daily Records"));
+        }
+    }
+
     /**
      * 카테고리별 통계
      * @return
@@ -190,13 +381,13 @@ public class ExpenseRecordController {
     @GetMapping("/category")
     public ResponseEntity<?> getCategoryRecords(Authentication authentication){
         try{
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            List<Object[]> results = expenseRecordService.getCategorySavingsStats(email);
+            List<Object[]> results = expenseRecordService.getCategorySavingsStats(userId);
             return ResponseEntity.ok(results);
 
         } catch (Exception e) {
@@ -205,17 +396,50 @@ public class ExpenseRecordController {
         }
     }
 
+    /**
+     * 카테고리별 통계 (총액, 건수, 비중 %, 순위, 평균 - 총액 내림차순)
+     * from/to: 사용자 시간대 날짜 (yyyy-MM-dd, 둘 다 포함, 생략 시 전체 기간), top: 상위 개수
+     * @return
+     */
+    @GetMapping("/category/stats")
+    public ResponseEntity<?> getCategoryStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                              @RequestParam(required = false) Integer top,
+                                              Authentication authentication){
+        try{
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
+            }
+
+            if (from != null && to != null && from.isAfter(to)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "from must not be after to"));
+            }
+            if (top != null && top < 1) {
+                return ResponseEntity.badRequest().body(Map.of("error", "top must be at least 1"));
+            }
+
+            List<CategoryStat> results = expenseRecordService.getCategoryStats(userId, from, to, top);
+            return ResponseEntity.ok(results);
+
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "Failed to get Category Stats"));
+        }
+    }
+
     // 소비 기록 삭제
     @DeleteMapping("/{recordId}")
     public ResponseEntity<?> deleteSavingRecord(@PathVariable Long recordId, Authentication authentication) {
         try {
-            String email = getEmailFromAuthentication(authentication);
-            if (email == null) {
+            Long userId = getUserIdFromAuthentication(authentication);
+            if (userId == null) {
                 return ResponseEntity.status(401)
                         .body(Map.of("error", "Unauthorized", "message", "Authentication required"));
             }
 
-            expenseRecordService.deleteExpenseRecord(recordId, email);
+            expenseRecordService.deleteExpenseRecord(recordId, userId);
             return ResponseEntity.ok("절약 기록이 삭제되었습니다.");
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -2,9 +2,12 @@ package com.savebuddy.controller;
 
 import com.savebuddy.dto.UserDto;
 import com.savebuddy.entity.User;
+import com.savebuddy.security.AuthUser;
+import com.savebuddy.service.JwtService;
 import com.savebuddy.service.OAuth2UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,12 +21,16 @@ import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
+@Slf4j
 public class OAuth2Controller {
 
 
     @Autowired
     OAuth2UserService oAuth2UserService;
 
+    @Autowired
+    JwtService jwtService;
+
     /**
      * 현재 로그인된 사용자 조회
      */
@@ -35,10 +42,10 @@ public class OAuth2Controller {
                     .body(Map.of("error", "Not authenticated", "message", "Please login first"));
         }
         
-        // JWT 기반 인증 (이메일이 Principal로 저장됨)
-        if (authentication.getPrincipal() instanceof String email) {
+        // JWT 기반 인증 (토큰의 사용자 정보가 Principal로 저장됨)
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
             try {
-                Optional<User> userOptional = oAuth2UserService.findByEmail(email);
+                Optional<User> userOptional = oAuth2UserService.findById(authUser.id());
                 if (userOptional.isPresent()) {
                     User user = userOptional.get();
                     UserDto userDto = UserDto.builder()
@@ -52,7 +59,7 @@ public class OAuth2Controller {
                             .totalExpense(user.getTotalExpense())
                             .monthlyTarget(user.getMonthlyTarget())
                             .picture(user.getPicture())
-                            .sub(email)
+                            .sub(authUser.email())
                             .build();
 
                     return ResponseEntity.ok(userDto);
@@ -100,6 +107,12 @@ public class OAuth2Controller {
     public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
+        // JWT 폐기 (만료 전까지 재사용 불가)
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            jwtService.revokeToken(authHeader.substring(7));
+        }
+
         if (authentication != null) {
             // Spring Security 로그아웃 처리
             new SecurityContextLogoutHandler().logout(request, response, authentication);
@@ -127,8 +140,8 @@ public class OAuth2Controller {
 
         try {
             // JWT 기반 인증
-            if (authentication.getPrincipal() instanceof String jwtEmail) {
-                email = jwtEmail;
+            if (authentication.getPrincipal() instanceof AuthUser authUser) {
+                email = authUser.email();
             }
             // OAuth2 기반 인증
             else if (authentication.getPrincipal() instanceof OidcUser oidcUser) {
@@ -150,7 +163,43 @@ public class OAuth2Controller {
         }
     }
 
+    /**
+     * 사용자 시간대 설정 (예: {"timeZone": "Asia/Seoul"}) - 오늘/이번주/이번달 통계와 챌린지 기간 기준
+     */
+    @PostMapping("/time-zone")
+    public ResponseEntity<?> updateTimeZone(@RequestBody Map<String, String> request,
+                                            Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401)
+                    .body(Map.of("error", "Not authenticated", "message", "Please login first"));
+        }
 
+        String email = null;
 
-}
+        try {
+            // JWT 기반 인증
+            if (authentication.getPrincipal() instanceof AuthUser authUser) {
+                email = authUser.email();
+            }
+            // OAuth2 기반 인증
+            else if (authentication.getPrincipal() instanceof OidcUser oidcUser) {
+                email = oidcUser.getEmail();
+            }
 
+            if (email != null) {
+                oAuth2UserService.updateTimeZone(email, request.get("timeZone"));
+                return ResponseEntity.ok(Map.of("message", "시간대 설정이 완료되었습니다."));
+            } else {
+                return ResponseEntity.status(400)
+                        .body(Map.of("error", "Invalid authentication type"));
+            }
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.warn("시간대 설정 실패 (사용자: {})", email, e);
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "Failed to update time zone"));
+        }
+    }
+}
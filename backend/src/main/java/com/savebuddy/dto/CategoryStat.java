@@ -0,0 +1,15 @@
+package com.savebuddy.dto;
+
+/**
+ * 카테고리별 통계 (기간 내 총액 기준 순위, 비중은 기간 전체 총액 대비 %, 소수점 1자리)
+ * category 가 null 이면 카테고리 없음
+ */
+public record CategoryStat(String category, long totalAmount, long count, double share, int rank,
+                           long averageAmount) {
+
+    public static CategoryStat of(String category, long totalAmount, long count, long grandTotal, int rank) {
+        double share = grandTotal == 0 ? 0 : Math.round(totalAmount * 1000.0 / grandTotal) / 10.0;
+        long averageAmount = count == 0 ? 0 : Math.round((double) totalAmount / count);
+        return new CategoryStat(category, totalAmount, count, share, rank, averageAmount);
+    }
+}
@@ -0,0 +1,29 @@
+package com.savebuddy.dto;
+
+import com.savebuddy.entity.Challenge;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+
+import java.time.LocalDateTime;
+
+/**
+ * 챌린지 목록 응답 (불변, 메모리 스냅샷에 그대로 보관)
+ */
+public record ChallengeDto(Long id, String title, String description, Long targetAmount, Integer duration,
+                           Integer experienceReward, Boolean isActive, String category,
+                           Challenge.ConditionType conditionType, LocalDateTime createdAt) {
+
+    public static ChallengeDto from(Challenge challenge) {
+        return new ChallengeDto(challenge.getId(), challenge.getTitle(), challenge.getDescription(),
+                challenge.getTargetAmount(), challenge.getDuration(), challenge.getExperienceReward(),
+                challenge.getIsActive(), challenge.getCategory(), challenge.getConditionType(),
+                challenge.getCreatedAt());
+    }
+
+    // 기간 (프론트엔드와 같은 기준: 1일 이하 일간, 7일 이하 주간, 그 외 월간)
+    public ChallengePeriod period() {
+        if (duration <= 1) {
+            return ChallengePeriod.DAILY;
+        }
+        return duration <= 7 ? ChallengePeriod.WEEKLY : ChallengePeriod.MONTHLY;
+    }
+}
@@ -0,0 +1,9 @@
+package com.savebuddy.dto;
+
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+
+/**
+ * 챌린지별 현재 기간 완료 여부
+ */
+public record ChallengeStatusDto(String challengeId, ChallengePeriod period, boolean isCompleted) {
+}
@@ -0,0 +1,17 @@
+package com.savebuddy.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class CursorPageDto<T> {
+    private List<T> data;
+    private Integer size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.savebuddy.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 시간대 기준 일자별 총액 (기록 없는 날은 0, 빈 날짜 없이 연속)
+ * amounts[i] 는 startDate + i 일의 총액, endDate 는 마지막 날짜 (포함)
+ */
+public record DailySeries(LocalDate startDate, LocalDate endDate, long[] amounts, long totalAmount) {
+
+    public static DailySeries of(LocalDate startDate, long[] amounts) {
+        long totalAmount = 0;
+        for (long amount : amounts) {
+            totalAmount += amount;
+        }
+        return new DailySeries(startDate, startDate.plusDays(amounts.length - 1), amounts, totalAmount);
+    }
+
+    public LocalDate dateAt(int index) {
+        return startDate.plusDays(index);
+    }
+}
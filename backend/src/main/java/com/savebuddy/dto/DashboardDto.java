@@ -0,0 +1,19 @@
+package com.savebuddy.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class DashboardDto {
+    private UserDto user;
+    private RecordSummaryDto<RecordView> savings;
+    private RecordSummaryDto<RecordView> expense;
+    // 일부 조회가 실패/시간 초과된 경우 true, 해당 항목은 null
+    private boolean partial;
+    private List<String> failedSections;
+}
@@ -1,6 +1,5 @@
 package com.savebuddy.dto;
 
-import com.savebuddy.entity.ExpenseRecord;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,5 +12,5 @@ import java.util.List;
 public class ExpenseRecordInfoDto {
     private Long count;
     private Long totalAmount;
-    private List<ExpenseRecord> data;
+    private List<RecordView> data;
 }
@@ -0,0 +1,7 @@
+package com.savebuddy.dto;
+
+/**
+ * Idempotency-Key 요청 결과 (JSON 응답 본문, 저장된 응답 재전송 여부)
+ */
+public record IdempotentResponse(String body, boolean replayed) {
+}
@@ -0,0 +1,13 @@
+package com.savebuddy.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class PeriodTotalDto {
+    private Long count;
+    private Long totalAmount;
+}
@@ -1,6 +1,5 @@
 package com.savebuddy.dto;
 
-import com.savebuddy.entity.SavingRecord;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,5 +12,5 @@ import java.util.List;
 public class RecordInfoDto {
     private Long count;
     private Long totalAmount;
-    private List<SavingRecord> data;
+    private List<RecordView> data;
 }
@@ -0,0 +1,20 @@
+package com.savebuddy.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+public class RecordSummaryDto<T> {
+    private PeriodTotalDto today;
+    private PeriodTotalDto month;
+    private Map<DayOfWeek, Long> week;
+    private List<Object[]> category;
+    private List<T> latest;
+}
@@ -0,0 +1,26 @@
+package com.savebuddy.dto;
+
+import com.savebuddy.entity.ExpenseRecord;
+import com.savebuddy.entity.SavingRecord;
+
+import java.time.LocalDateTime;
+
+/**
+ * 절약/소비 기록 조회용 읽기 모델 (JPQL 생성자 프로젝션)
+ * 엔티티가 아니라 영속성 컨텍스트에 올라가지 않으므로 스냅샷/지연 로딩 프록시가 없음
+ * JSON 형식은 기존 엔티티 응답과 같음 (user 제외)
+ * 등록 응답도 엔티티 대신 이 형식으로 반환
+ */
+public record RecordView(Long id, Long amount, String category, LocalDateTime createdAt,
+                         String itemName, String memo) {
+
+    public static RecordView from(SavingRecord record) {
+        return new RecordView(record.getId(), record.getAmount(), record.getCategory(), record.getCreatedAt(),
+                record.getItemName(), record.getMemo());
+    }
+
+    public static RecordView from(ExpenseRecord record) {
+        return new RecordView(record.getId(), record.getAmount(), record.getCategory(), record.getCreatedAt(),
+                record.getItemName(), record.getMemo());
+    }
+}
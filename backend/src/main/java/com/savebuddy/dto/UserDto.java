@@ -1,5 +1,6 @@
 package com.savebuddy.dto;
 
+import com.savebuddy.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,6 +18,24 @@ public class UserDto {
     private Long totalSavings;
     private Long totalExpense;
     private Long monthlyTarget;
+    private String timeZone;
     private String picture;
     private String sub;
+
+    public static UserDto from(User user) {
+        return UserDto.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .username(user.getUsername())
+                .level(user.getLevel())
+                .experience(user.getExperience())
+                .totalSavings(user.getTotalSavings())
+                .totalExpense(user.getTotalExpense())
+                .monthlyTarget(user.getMonthlyTarget())
+                .timeZone(user.getTimeZone())
+                .picture(user.getPicture())
+                .sub(user.getEmail())
+                .build();
+    }
 }
@@ -0,0 +1,13 @@
+package com.savebuddy.dto;
+
+import com.savebuddy.entity.User;
+
+/**
+ * 인증된 사용자 식별 정보 (캐시용 불변 스냅샷 - 누적 금액 등 자주 바뀌는 값은 포함하지 않음)
+ */
+public record UserIdentity(Long id, String email, String nickname, String picture, User.Role role) {
+
+    public static UserIdentity from(User user) {
+        return new UserIdentity(user.getId(), user.getEmail(), user.getNickname(), user.getPicture(), user.getRole());
+    }
+}
@@ -0,0 +1,58 @@
+package com.savebuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 챌린지 목록 (V8 마이그레이션)
+ */
+@Entity
+@Table(name = "challenges")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Challenge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    // 목표 값 (AMOUNT: 금액, COUNT: 횟수, STREAK: 연속 일수)
+    @Column(name = "target_amount", nullable = false)
+    private Long targetAmount;
+
+    // 기간 (일) - 1 이하: 일간, 7 이하: 주간, 그 외: 월간
+    @Column(nullable = false)
+    private Integer duration;
+
+    @Column(name = "experience_reward", nullable = false)
+    private Integer experienceReward;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    // 대상 카테고리 (null 이면 전체)
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "condition_type", nullable = false)
+    private ConditionType conditionType = ConditionType.AMOUNT;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum ConditionType {
+        AMOUNT, COUNT, STREAK
+    }
+}
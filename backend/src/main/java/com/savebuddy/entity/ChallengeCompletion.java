@@ -1,5 +1,6 @@
 package com.savebuddy.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,14 +8,15 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "challenge_completions", 
        uniqueConstraints = {
            @UniqueConstraint(
-               name = "uk_user_challenge_period_date", 
-               columnNames = {"user_id", "challenge_id", "period", "completed_date"}
+               name = "uk_user_challenge_period_start",
+               columnNames = {"user_id", "challenge_id", "period", "period_start"}
            )
        })
 @Getter
@@ -23,11 +25,17 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class ChallengeCompletion {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 테이블 기반 pooled-lo 생성기로 ID 를 50개씩 할당 (V6 마이그레이션)
+    // 완료 저장은 같은 행에서 같은 크기로 할당받은 ID 로 INSERT ... ON DUPLICATE KEY UPDATE (ChallengeCompletionService)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "challenge_completion_id")
+    @TableGenerator(name = "challenge_completion_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "challenge_completions", allocationSize = ChallengeCompletion.ID_ALLOCATION_SIZE)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY) @JsonIgnore
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -48,21 +56,15 @@ public class ChallengeCompletion {
     @Column(name = "completed_at", nullable = false, updatable = false)
     private LocalDateTime completedAt;
 
-    // 날짜만 저장하는 컬럼 (유니크 제약조건용)
+    // 완료일 (사용자 시간대 날짜)
     @Column(name = "completed_date", nullable = false)
-    private java.time.LocalDate completedDate;
+    private LocalDate completedDate;
+
+    // 완료한 기간의 시작일 (사용자 시간대 날짜: 당일, 그 주 월요일, 그 달 1일 - 유니크 제약조건용)
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
 
     public enum ChallengePeriod {
         DAILY, WEEKLY, MONTHLY
     }
-
-    public ChallengeCompletion(User user, String challengeId, String challengeTitle, 
-                              ChallengePeriod period, Integer rewardAmount) {
-        this.user = user;
-        this.challengeId = challengeId;
-        this.challengeTitle = challengeTitle;
-        this.period = period;
-        this.rewardAmount = rewardAmount;
-        this.completedDate = java.time.LocalDate.now();
-    }
 }
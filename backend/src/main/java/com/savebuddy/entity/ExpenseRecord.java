@@ -18,11 +18,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "expense_records") @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "expense_records", indexes = @Index(name = "idx_expense_records_user_created", columnList = "user_id, created_at")) @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class ExpenseRecord {
 
+    // 배치 INSERT 를 위해 테이블 기반 pooled-lo 생성기로 ID 를 50개씩 할당 (V5 마이그레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "expense_record_id")
+    @TableGenerator(name = "expense_record_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "expense_records", allocationSize = 50)
     private Long id;
 
     @NotNull
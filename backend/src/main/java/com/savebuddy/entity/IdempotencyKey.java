@@ -0,0 +1,52 @@
+package com.savebuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 클라이언트 재시도 중복 방지용 Idempotency-Key 와 최초 응답 (만료 후 재사용 가능)
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@IdClass(IdempotencyKey.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    // 같은 키를 다른 요청에 재사용했는지 확인용 (엔드포인트 + 요청 본문 해시)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // 최초 처리 결과 (처리 중에는 null)
+    @Lob
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private String idempotencyKey;
+    }
+}
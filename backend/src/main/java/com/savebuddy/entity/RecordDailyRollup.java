@@ -0,0 +1,55 @@
+package com.savebuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 × 날짜 × 카테고리 단위의 절약/소비 집계 (기록 등록/삭제 시 같은 트랜잭션에서 갱신)
+ */
+@Entity
+@Table(name = "record_daily_rollups",
+       uniqueConstraints = {
+           @UniqueConstraint(
+               name = "uk_rollup_user_type_date_category",
+               columnNames = {"user_id", "record_type", "record_date", "category"}
+           )
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecordDailyRollup {
+
+    // 카테고리가 없는 기록은 유니크 제약조건을 위해 빈 문자열로 저장
+    public static final String NO_CATEGORY = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", nullable = false, length = 16)
+    private RecordType recordType;
+
+    @Column(name = "record_date", nullable = false)
+    private LocalDate recordDate;
+
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "record_count", nullable = false)
+    private Long recordCount;
+
+    public enum RecordType {
+        SAVING, EXPENSE
+    }
+}
@@ -13,10 +13,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Getter @Setter @AllArgsConstructor @NoArgsConstructor
-@Entity @Table(name = "saving_records") @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Entity @Table(name = "saving_records", indexes = @Index(name = "idx_saving_records_user_created", columnList = "user_id, created_at")) @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class SavingRecord {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT 를 위해 테이블 기반 pooled-lo 생성기로 ID 를 50개씩 할당 (V5 마이그레이션)
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "saving_record_id")
+    @TableGenerator(name = "saving_record_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "saving_records", allocationSize = 50)
     private Long id;
 
     @NotNull
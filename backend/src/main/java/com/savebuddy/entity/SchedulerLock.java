@@ -0,0 +1,35 @@
+package com.savebuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스에서 같은 스케줄 작업이 동시에 돌지 않도록 하는 임대(lease) 잠금
+ * lockedUntil 이 지나면 (작업 종료 또는 인스턴스 중단) 다른 인스턴스가 가져갈 수 있음
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    // 잠금 만료 시각 (UTC)
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    // 잠금을 가진 인스턴스
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
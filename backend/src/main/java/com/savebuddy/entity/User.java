@@ -39,6 +39,8 @@ public class User {
 
     private Long monthlyTarget = 100000L; // 기본 월간 목표: 10만원
 
+    private String timeZone; // 통계/챌린지 기간 기준 시간대 (IANA, 예: Asia/Seoul), null 이면 기본 시간대
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
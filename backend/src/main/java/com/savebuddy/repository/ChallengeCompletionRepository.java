@@ -1,12 +1,16 @@
 package com.savebuddy.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.savebuddy.entity.ChallengeCompletion;
 import com.savebuddy.entity.User;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -20,11 +24,69 @@ public interface ChallengeCompletionRepository extends JpaRepository<ChallengeCo
     // 특정 사용자의 특정 챌린지 완료 기록
     Optional<ChallengeCompletion> findByUserAndChallengeId(User user, String challengeId);
 
-    // 특정 기간 내 완료된 챌린지 확인
-    @Query("SELECT cc FROM ChallengeCompletion cc WHERE cc.user = :user AND cc.challengeId = :challengeId AND cc.completedAt >= :since")
+    // 특정 기간 내 완료된 챌린지 확인 (완료일은 사용자 시간대 날짜)
+    @Query("SELECT cc FROM ChallengeCompletion cc WHERE cc.user = :user AND cc.challengeId = :challengeId AND cc.completedDate >= :since")
     Optional<ChallengeCompletion> findRecentCompletion(@Param("user") User user, 
                                                       @Param("challengeId") String challengeId, 
-                                                      @Param("since") LocalDateTime since);
+                                                      @Param("since") LocalDate since);
+
+    // 사용자의 챌린지 기간별 완료 기록 (유니크 키 조회, 잠금 없음)
+    Optional<ChallengeCompletion> findByUserAndChallengeIdAndPeriodAndPeriodStart(User user, String challengeId,
+                                                                             ChallengeCompletion.ChallengePeriod period,
+                                                                             LocalDate periodStart);
+
+    // 완료 기록 삽입, 같은 (사용자, 챌린지, 기간, 기간 시작일) 이 이미 있으면 아무것도 바꾸지 않음 (잠금 없이 중복 방지)
+    // 중복 키 외의 오류 (NOT NULL, 길이 초과, 외래 키) 는 그대로 예외
+    // 삽입되면 1, 이미 있으면 0 (MySQL Connector/J 기본 설정에서는 이미 있어도 1)
+    @Modifying
+    @Query(value = "INSERT INTO challenge_completions " +
+            "(id, user_id, challenge_id, challenge_title, period, reward_amount, completed_at, completed_date, period_start) " +
+            "VALUES (:id, :userId, :challengeId, :challengeTitle, :period, :rewardAmount, :completedAt, :completedDate, :periodStart) " +
+            "ON DUPLICATE KEY UPDATE id = id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id,
+                       @Param("userId") Long userId,
+                       @Param("challengeId") String challengeId,
+                       @Param("challengeTitle") String challengeTitle,
+                       @Param("period") String period,
+                       @Param("rewardAmount") Integer rewardAmount,
+                       @Param("completedAt") LocalDateTime completedAt,
+                       @Param("completedDate") LocalDate completedDate,
+                       @Param("periodStart") LocalDate periodStart);
+
+    // ID 생성기 행 생성 (이미 있으면 무시, V6 마이그레이션 이전 DB 용)
+    @Modifying
+    @Query(value = "INSERT INTO id_sequences (sequence_name, next_val) VALUES ('challenge_completions', 1) " +
+            "ON DUPLICATE KEY UPDATE sequence_name = sequence_name",
+            nativeQuery = true)
+    int insertIdSequenceIfAbsent();
+
+    // ID 생성기 다음 블록 시작 값 (잠금 읽기, 다른 인스턴스의 할당과 겹치지 않도록)
+    @Query(value = "SELECT next_val FROM id_sequences WHERE sequence_name = 'challenge_completions' FOR UPDATE",
+            nativeQuery = true)
+    Long lockNextIdBlock();
+
+    // ID 생성기 다음 블록 시작 값 변경
+    @Modifying
+    @Query(value = "UPDATE id_sequences SET next_val = :nextVal WHERE sequence_name = 'challenge_completions'",
+            nativeQuery = true)
+    int updateNextIdBlock(@Param("nextVal") Long nextVal);
+
+    // 유니크 키 (uk_user_challenge_period_start) 로 조회
+    // 잠금 읽기: REPEATABLE READ 스냅샷과 무관하게 다른 트랜잭션이 방금 커밋한 기록도 조회
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT cc FROM ChallengeCompletion cc WHERE cc.user.id = :userId AND cc.challengeId = :challengeId " +
+            "AND cc.period = :period AND cc.periodStart = :periodStart")
+    Optional<ChallengeCompletion> findByUniqueKey(@Param("userId") Long userId,
+                                                  @Param("challengeId") String challengeId,
+                                                  @Param("period") ChallengeCompletion.ChallengePeriod period,
+                                                  @Param("periodStart") LocalDate periodStart);
+
+    // 사용자의 since 이후 완료 기록 [챌린지 id, 완료일] (완료 상태 일괄 조회용)
+    @Query("SELECT cc.challengeId, cc.completedDate FROM ChallengeCompletion cc " +
+            "WHERE cc.user.id = :userId AND cc.completedDate >= :since")
+    List<Object[]> findCompletedSince(@Param("userId") Long userId,
+                                      @Param("since") LocalDate since);
 
     // 사용자의 기간별 완료된 챌린지 개수
     @Query("SELECT COUNT(cc) FROM ChallengeCompletion cc WHERE cc.user = :user AND cc.period = :period AND cc.completedAt >= :since")
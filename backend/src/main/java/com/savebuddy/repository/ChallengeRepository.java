@@ -0,0 +1,14 @@
+package com.savebuddy.repository;
+
+import com.savebuddy.entity.Challenge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
+
+    // 활성 챌린지 전체 (id 순)
+    List<Challenge> findByIsActiveTrueOrderByIdAsc();
+}
@@ -1,41 +1,61 @@
 package com.savebuddy.repository;
 
+import com.savebuddy.dto.RecordView;
 import com.savebuddy.entity.ExpenseRecord;
 import com.savebuddy.entity.SavingRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExpenseRecordRepository extends JpaRepository<ExpenseRecord, Long> {
 
-    // 사용자별 소비 기록 조회
-    List<ExpenseRecord> findByUserIdOrderByCreatedAtDesc(Long userId);
-
-    // 사용자별 오늘 소비 기록
-    @Query("SELECT er FROM ExpenseRecord er WHERE er.user.id = :userId " +
-            "AND DATE(er.createdAt) = DATE(CURRENT_DATE)")
-    List<ExpenseRecord> findTodaySavingsByUserId(@Param("userId") Long userId);
-
-    // 사용자별 이번 달 소비 기록
-    @Query("SELECT er FROM ExpenseRecord er WHERE er.user.id = :userId " +
-            "AND YEAR(er.createdAt) = YEAR(CURRENT_DATE) " +
-            "AND MONTH(er.createdAt) = MONTH(CURRENT_DATE)")
-    List<ExpenseRecord> findThisMonthSavingsByUserId(@Param("userId") Long userId);
-
-    // 카테고리별 소비 통계
-    @Query("SELECT er.category, COALESCE(SUM(er.amount), 0) FROM ExpenseRecord er " +
-            "WHERE er.user.id = :userId GROUP BY er.category")
-    List<Object[]> getCategorySavingsStatsByUserId(@Param("userId") Long userId);
-
-    // 기간별 소비 기록
-    List<ExpenseRecord> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-            Long userId, LocalDateTime startDate, LocalDateTime endDate);
-
-
-
-}
\ No newline at end of file
+    // 조회용 프로젝션 (엔티티 대신 RecordView 로 읽어 영속성 컨텍스트/스냅샷 없이 반환)
+    String VIEW = "SELECT new com.savebuddy.dto.RecordView(er.id, er.amount, er.category, er.createdAt, " +
+            "er.itemName, er.memo) FROM ExpenseRecord er ";
+
+    // 사용자별 소비 기록 (createdAt, id 내림차순, 전체 조회는 Limit.unlimited())
+    @Query(VIEW + "WHERE er.user.id = :userId ORDER BY er.createdAt DESC, er.id DESC")
+    List<RecordView> findByUserIdOrderByCreatedAtDescIdDesc(@Param("userId") Long userId, Limit limit);
+
+    // 사용자별 소비 기록 커서 다음 페이지 (keyset)
+    @Query(VIEW + "WHERE er.user.id = :userId " +
+            "AND (er.createdAt < :createdAt OR (er.createdAt = :createdAt AND er.id < :id)) " +
+            "ORDER BY er.createdAt DESC, er.id DESC")
+    List<RecordView> findPageAfter(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+
+    // 사용자별 기간 [start, end) 소비 기록 (user_id, created_at 인덱스 범위 조회)
+    @Query(VIEW + "WHERE er.user.id = :userId " +
+            "AND er.createdAt >= :start AND er.createdAt < :end " +
+            "ORDER BY er.createdAt DESC, er.id DESC")
+    List<RecordView> findByUserIdAndCreatedAtRange(@Param("userId") Long userId,
+                                                   @Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end);
+
+    // 전체 기록 스트림 (최신순, JSON 스트리밍 응답/CSV 내보내기용)
+    // 전진 커서로 fetch size 만큼씩 읽음 (MySQL 은 useCursorFetch=true 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW + "WHERE er.user.id = :userId ORDER BY er.createdAt DESC, er.id DESC")
+    Stream<RecordView> streamByUserId(@Param("userId") Long userId);
+
+    // 기간 [start, end) 기록 스트림 (최신순, JSON 스트리밍 응답용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW + "WHERE er.user.id = :userId " +
+            "AND er.createdAt >= :start AND er.createdAt < :end " +
+            "ORDER BY er.createdAt DESC, er.id DESC")
+    Stream<RecordView> streamByUserIdAndCreatedAtRange(@Param("userId") Long userId,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,45 @@
+package com.savebuddy.repository;
+
+import com.savebuddy.entity.IdempotencyKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, IdempotencyKey.Key> {
+
+    // 키 선점 (없거나 만료됐으면 새로 등록, 처리 중/완료된 키는 그대로)
+    // 같은 키의 동시 요청은 먼저 선점한 트랜잭션이 끝날 때까지 여기서 대기
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로 expires_at 을 마지막에 갱신
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, response_body, expires_at) " +
+            "VALUES (:userId, :idempotencyKey, :requestHash, NULL, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "request_hash = CASE WHEN expires_at < :now THEN :requestHash ELSE request_hash END, " +
+            "response_body = CASE WHEN expires_at < :now THEN NULL ELSE response_body END, " +
+            "expires_at = CASE WHEN expires_at < :now THEN :expiresAt ELSE expires_at END",
+            nativeQuery = true)
+    int claim(@Param("userId") Long userId,
+              @Param("idempotencyKey") String idempotencyKey,
+              @Param("requestHash") String requestHash,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("now") LocalDateTime now);
+
+    // 잠금 읽기: 다른 트랜잭션이 방금 커밋한 응답도 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM IdempotencyKey k WHERE k.userId = :userId AND k.idempotencyKey = :idempotencyKey")
+    Optional<IdempotencyKey> findForUpdate(@Param("userId") Long userId,
+                                           @Param("idempotencyKey") String idempotencyKey);
+
+    // 만료된 키 정리
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,9 +1,14 @@
 package com.savebuddy.repository;
 
 import com.savebuddy.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,36 @@ public interface OAuth2UserRepository extends JpaRepository<User,Long> {
     // 이메일로 찾기
     Optional<User> findByEmail(String email);
 
+    // afterId 다음 사용자 id (id 순, 집계 재계산 배치용)
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 사용자 행 잠금 (기록 등록/삭제는 사용자 행 갱신부터 하므로 같은 사용자의 집계 재계산과 순서대로 실행)
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("userId") Long userId);
+
+    // 사용자 시간대
+    @Query("SELECT u.timeZone FROM User u WHERE u.id = :userId")
+    Optional<String> findTimeZoneById(@Param("userId") Long userId);
+
+    // 총 절약 금액 & 경험치 원자적 증감 (레벨업: 100exp = 1레벨)
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로 level 을 experience 보다 먼저 계산
+    @Modifying
+    @Query("UPDATE User u SET u.totalSavings = COALESCE(u.totalSavings, 0) + :amount, " +
+            "u.level = (COALESCE(u.experience, 0) + :experience) / 100 + 1, " +
+            "u.experience = COALESCE(u.experience, 0) + :experience, " +
+            "u.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE u.id = :userId")
+    int addSavings(@Param("userId") Long userId,
+                   @Param("amount") Long amount,
+                   @Param("experience") Integer experience);
+
+    // 총 소비 금액 원자적 증감
+    @Modifying
+    @Query("UPDATE User u SET u.totalExpense = COALESCE(u.totalExpense, 0) + :amount, " +
+            "u.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE u.id = :userId")
+    int addExpense(@Param("userId") Long userId,
+                   @Param("amount") Long amount);
+
 }
@@ -0,0 +1,104 @@
+package com.savebuddy.repository;
+
+import com.savebuddy.entity.RecordDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RecordDailyRollupRepository extends JpaRepository<RecordDailyRollup, Long> {
+
+    // 일별 집계 증감 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO record_daily_rollups (user_id, record_type, record_date, category, total_amount, record_count) " +
+            "VALUES (:userId, :recordType, :recordDate, :category, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + :amount, record_count = record_count + :count",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("recordType") String recordType,
+               @Param("recordDate") LocalDate recordDate,
+               @Param("category") String category,
+               @Param("amount") Long amount,
+               @Param("count") Long count);
+
+    // 기록이 모두 삭제된 집계 행 정리
+    @Modifying
+    @Query("DELETE FROM RecordDailyRollup r WHERE r.userId = :userId AND r.recordType = :recordType " +
+            "AND r.recordDate = :recordDate AND r.category = :category AND r.recordCount <= 0")
+    int deleteEmpty(@Param("userId") Long userId,
+                    @Param("recordType") RecordDailyRollup.RecordType recordType,
+                    @Param("recordDate") LocalDate recordDate,
+                    @Param("category") String category);
+
+    // 기간별 합계 [총액, 건수]
+    @Query("SELECT COALESCE(SUM(r.totalAmount), 0) AS totalAmount, COALESCE(SUM(r.recordCount), 0) AS recordCount " +
+            "FROM RecordDailyRollup r WHERE r.userId = :userId AND r.recordType = :recordType " +
+            "AND r.recordDate >= :startDate AND r.recordDate < :endDate")
+    RollupTotal sumBetween(@Param("userId") Long userId,
+                           @Param("recordType") RecordDailyRollup.RecordType recordType,
+                           @Param("startDate") LocalDate startDate,
+                           @Param("endDate") LocalDate endDate);
+
+    // 기간별 일자 합계 [날짜, 총액]
+    @Query("SELECT r.recordDate, SUM(r.totalAmount) FROM RecordDailyRollup r " +
+            "WHERE r.userId = :userId AND r.recordType = :recordType " +
+            "AND r.recordDate >= :startDate AND r.recordDate < :endDate " +
+            "GROUP BY r.recordDate")
+    List<Object[]> getDailyTotals(@Param("userId") Long userId,
+                                  @Param("recordType") RecordDailyRollup.RecordType recordType,
+                                  @Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate);
+
+    // 날짜 순 일별 집계 행 [날짜, 카테고리, 총액, 건수]
+    @Query("SELECT r.recordDate, r.category, r.totalAmount, r.recordCount FROM RecordDailyRollup r " +
+            "WHERE r.userId = :userId AND r.recordType = :recordType AND r.recordDate >= :startDate " +
+            "ORDER BY r.recordDate")
+    List<Object[]> getDailyRowsSince(@Param("userId") Long userId,
+                                     @Param("recordType") RecordDailyRollup.RecordType recordType,
+                                     @Param("startDate") LocalDate startDate);
+
+    // 카테고리별 합계 [카테고리, 총액, 건수]
+    @Query("SELECT NULLIF(r.category, ''), SUM(r.totalAmount), SUM(r.recordCount) FROM RecordDailyRollup r " +
+            "WHERE r.userId = :userId AND r.recordType = :recordType GROUP BY r.category")
+    List<Object[]> getCategoryTotals(@Param("userId") Long userId,
+                                     @Param("recordType") RecordDailyRollup.RecordType recordType);
+
+    // 기간 [startDate, endDate) 카테고리별 합계 [카테고리, 총액, 건수] (총액 내림차순)
+    // 유니크 키 (user_id, record_type, record_date, category) 의 범위 조회, 삭제로 0건이 된 카테고리 제외
+    @Query("SELECT NULLIF(r.category, ''), SUM(r.totalAmount), SUM(r.recordCount) FROM RecordDailyRollup r " +
+            "WHERE r.userId = :userId AND r.recordType = :recordType " +
+            "AND r.recordDate >= :startDate AND r.recordDate < :endDate " +
+            "GROUP BY r.category HAVING SUM(r.recordCount) > 0 " +
+            "ORDER BY SUM(r.totalAmount) DESC, r.category")
+    List<Object[]> getCategoryTotalsBetween(@Param("userId") Long userId,
+                                            @Param("recordType") RecordDailyRollup.RecordType recordType,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    // 대시보드: 최근 구간은 일자별 행 그대로, 그 이전은 카테고리별 합계 1행으로 (1회 조회)
+    // [유형, 카테고리, 날짜(이전 구간은 NULL), 총액, 건수]
+    @Query(value = "SELECT record_type, NULLIF(category, ''), record_date, total_amount, record_count " +
+            "FROM record_daily_rollups WHERE user_id = :userId AND record_date >= :windowStart " +
+            "UNION ALL " +
+            "SELECT record_type, NULLIF(category, ''), NULL, SUM(total_amount), SUM(record_count) " +
+            "FROM record_daily_rollups WHERE user_id = :userId AND record_date < :windowStart " +
+            "GROUP BY record_type, category",
+            nativeQuery = true)
+    List<Object[]> getDashboardRows(@Param("userId") Long userId,
+                                    @Param("windowStart") LocalDate windowStart);
+
+    // 재계산: 사용자 집계 전체 삭제
+    @Modifying
+    @Query("DELETE FROM RecordDailyRollup r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    interface RollupTotal {
+        Long getTotalAmount();
+        Long getRecordCount();
+    }
+}
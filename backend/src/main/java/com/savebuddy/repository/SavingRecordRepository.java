@@ -1,40 +1,60 @@
 package com.savebuddy.repository;
 
+import com.savebuddy.dto.RecordView;
 import com.savebuddy.entity.SavingRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SavingRecordRepository extends JpaRepository<SavingRecord, Long> {
 
-    // 사용자별 절약 기록 조회
-    List<SavingRecord> findByUserIdOrderByCreatedAtDesc(Long userId);
-
-    // 사용자별 오늘 절약 기록
-    @Query("SELECT sr FROM SavingRecord sr WHERE sr.user.id = :userId " +
-            "AND DATE(sr.createdAt) = DATE(CURRENT_DATE)")
-    List<SavingRecord> findTodaySavingsByUserId(@Param("userId") Long userId);
-
-    // 사용자별 이번 달 절약 기록
-    @Query("SELECT sr FROM SavingRecord sr WHERE sr.user.id = :userId " +
-            "AND YEAR(sr.createdAt) = YEAR(CURRENT_DATE) " +
-            "AND MONTH(sr.createdAt) = MONTH(CURRENT_DATE)")
-    List<SavingRecord> findThisMonthSavingsByUserId(@Param("userId") Long userId);
-
-    // 카테고리별 절약 통계
-    @Query("SELECT sr.category, COALESCE(SUM(sr.amount), 0) FROM SavingRecord sr " +
-            "WHERE sr.user.id = :userId GROUP BY sr.category")
-    List<Object[]> getCategorySavingsStatsByUserId(@Param("userId") Long userId);
-
-    // 기간별 절약 기록
-    List<SavingRecord> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-            Long userId, LocalDateTime startDate, LocalDateTime endDate);
-
-
-
-}
\ No newline at end of file
+    // 조회용 프로젝션 (엔티티 대신 RecordView 로 읽어 영속성 컨텍스트/스냅샷 없이 반환)
+    String VIEW = "SELECT new com.savebuddy.dto.RecordView(sr.id, sr.amount, sr.category, sr.createdAt, " +
+            "sr.itemName, sr.memo) FROM SavingRecord sr ";
+
+    // 사용자별 절약 기록 (createdAt, id 내림차순, 전체 조회는 Limit.unlimited())
+    @Query(VIEW + "WHERE sr.user.id = :userId ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<RecordView> findByUserIdOrderByCreatedAtDescIdDesc(@Param("userId") Long userId, Limit limit);
+
+    // 사용자별 절약 기록 커서 다음 페이지 (keyset)
+    @Query(VIEW + "WHERE sr.user.id = :userId " +
+            "AND (sr.createdAt < :createdAt OR (sr.createdAt = :createdAt AND sr.id < :id)) " +
+            "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<RecordView> findPageAfter(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+
+    // 사용자별 기간 [start, end) 절약 기록 (user_id, created_at 인덱스 범위 조회)
+    @Query(VIEW + "WHERE sr.user.id = :userId " +
+            "AND sr.createdAt >= :start AND sr.createdAt < :end " +
+            "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<RecordView> findByUserIdAndCreatedAtRange(@Param("userId") Long userId,
+                                                   @Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end);
+
+    // 전체 기록 스트림 (최신순, JSON 스트리밍 응답/CSV 내보내기용)
+    // 전진 커서로 fetch size 만큼씩 읽음 (MySQL 은 useCursorFetch=true 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW + "WHERE sr.user.id = :userId ORDER BY sr.createdAt DESC, sr.id DESC")
+    Stream<RecordView> streamByUserId(@Param("userId") Long userId);
+
+    // 기간 [start, end) 기록 스트림 (최신순, JSON 스트리밍 응답용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW + "WHERE sr.user.id = :userId " +
+            "AND sr.createdAt >= :start AND sr.createdAt < :end " +
+            "ORDER BY sr.createdAt DESC, sr.id DESC")
+    Stream<RecordView> streamByUserIdAndCreatedAtRange(@Param("userId") Long userId,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,14 @@
+package com.savebuddy.security;
+
+import java.security.Principal;
+
+/**
+ * JWT 인증 사용자 (SecurityContext 의 principal)
+ */
+public record AuthUser(Long id, String email, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,5 +1,7 @@
 package com.savebuddy.security;
 
+import com.savebuddy.dto.UserIdentity;
+import com.savebuddy.entity.User;
 import com.savebuddy.service.JwtService;
 import com.savebuddy.service.OAuth2UserService;
 import jakarta.servlet.FilterChain;
@@ -8,13 +10,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -30,30 +34,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String email = null;
-
-        // Bearer 토큰에서 JWT 추출
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            try {
-                email = jwtService.getEmailFromToken(token);
-            } catch (Exception e) {
-                logger.debug("JWT 토큰 파싱 실패: " + e.getMessage());
-            }
-        }
 
-        // 토큰이 유효하고 현재 인증 컨텍스트가 없는 경우
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtService.validateToken(token)) {
+        // Bearer 토큰 검증 (현재 인증 컨텍스트가 없는 경우만, 파싱/검증 1회)
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = authHeader.substring(7);
+
+            // uid 클레임이 없는 이전 토큰은 이메일로 사용자 식별 (만료 시까지 호환)
+            Optional<AuthUser> authUser = jwtService.verifyToken(token)
+                    .flatMap(user -> user.id() != null ? Optional.of(user) : resolveLegacyToken(user.email()));
+
+            if (authUser.isPresent()) {
                 // 사용자 인증 객체 생성
-                UsernamePasswordAuthenticationToken authToken = 
-                    new UsernamePasswordAuthenticationToken(email, null, new ArrayList<>());
+                UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(authUser.get(), null,
+                            List.of(new SimpleGrantedAuthority("ROLE_" + authUser.get().role())));
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+            } else {
+                logger.debug("JWT 토큰 검증 실패");
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private Optional<AuthUser> resolveLegacyToken(String email) {
+        return oAuth2UserService.findIdentityByEmail(email)
+                .map(identity -> new AuthUser(identity.id(), identity.email(), roleOf(identity)));
+    }
+
+    private String roleOf(UserIdentity identity) {
+        return identity.role() == null ? User.Role.USER.name() : identity.role().name();
+    }
 }
@@ -1,12 +1,15 @@
 package com.savebuddy.security;
 
+import com.savebuddy.entity.User;
 import com.savebuddy.service.JwtService;
+import com.savebuddy.service.OAuth2UserService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +24,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private OAuth2UserService oAuth2UserService;
+
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
@@ -37,8 +43,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     protected String determineTargetUrl(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) {
-        // JWT 토큰 생성
-        String token = jwtService.generateToken(authentication);
+        // 사용자 등록/갱신 후 JWT 토큰 생성 (토큰에 사용자 id 포함)
+        OidcUser oidcUser = (OidcUser) authentication.getPrincipal();
+        User user = oAuth2UserService.saveOrUpdateOAuth2User(oidcUser.getEmail(), oidcUser.getFullName(), oidcUser.getPicture());
+        String token = jwtService.generateToken(user);
 
         // 프론트엔드로 리디렉트 (토큰과 함께)
         return frontendUrl + "?loginSuccess=true&token=" + token;
@@ -0,0 +1,13 @@
+package com.savebuddy.security;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 마친 토큰의 사용자 정보와 만료 시각(exp)
+ */
+public record VerifiedToken(AuthUser user, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,110 @@
+package com.savebuddy.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 검증된 JWT 캐시 (토큰 해시 → 검증 결과, 토큰 exp 까지만 보관)
+ * 같은 클라이언트의 반복 요청은 HMAC 검증과 클레임 디코딩을 건너뜀
+ * hit/miss 통계는 /actuator/metrics/cache.* (cache=jwtVerified) 로 노출
+ * 폐기 목록은 인스턴스 메모리에만 있음 (단일 인스턴스 전제)
+ * - 여러 인스턴스로 운영하면 로그아웃한 인스턴스 외에는 토큰 exp 까지 계속 인증됨 → 공유 저장소(Redis 등) 필요
+ * - 최대 JWT_REVOKED_MAX_SIZE 건, 초과 시 오래된 항목부터 제거되어 다시 인증될 수 있음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+
+    private final Cache<String, VerifiedToken> verified;
+
+    // 로그아웃 등으로 폐기된 토큰 (토큰 exp 까지만 보관)
+    private final Cache<String, Instant> revoked;
+
+    public VerifiedTokenCache(@Value("${JWT_CACHE_ENABLED:true}") boolean enabled,
+                              @Value("${JWT_CACHE_MAX_SIZE:10000}") long maxSize,
+                              @Value("${JWT_REVOKED_MAX_SIZE:100000}") long revokedMaxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(untilExpiry(VerifiedToken::expiresAt))
+                .recordStats()
+                .build();
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(revokedMaxSize)
+                .expireAfter(untilExpiry((Instant expiresAt) -> expiresAt))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwtVerified");
+    }
+
+    public Optional<VerifiedToken> get(String tokenHash) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        VerifiedToken token = verified.getIfPresent(tokenHash);
+        if (token == null || token.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(token);
+    }
+
+    public void put(String tokenHash, VerifiedToken token) {
+        if (enabled) {
+            verified.put(tokenHash, token);
+        }
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        return revoked.getIfPresent(tokenHash) != null;
+    }
+
+    public void revoke(String tokenHash, Instant expiresAt) {
+        revoked.put(tokenHash, expiresAt);
+        verified.invalidate(tokenHash);
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 항목별 만료 시각 = 토큰 exp
+    private static <V> Expiry<String, V> untilExpiry(Function<V, Instant> expiresAt) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, V value, long currentTime) {
+                return Math.max(0, Duration.between(Instant.now(), expiresAt.apply(value)).toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.savebuddy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savebuddy.dto.ChallengeDto;
+import com.savebuddy.entity.Challenge;
+import com.savebuddy.repository.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 챌린지 목록 (모든 클라이언트가 페이지마다 조회하므로 DB 대신 불변 스냅샷에서 응답)
+ * 챌린지는 DB 에서 직접 관리 (등록/수정 API 없음) → 주기적으로 다시 읽어 내용이 바뀐 경우에만 교체
+ * (변경은 최대 CHALLENGE_CATALOG_REFRESH_MS 후 모든 인스턴스에 반영)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChallengeCatalogService {
+
+    private final ChallengeRepository challengeRepository;
+
+    private final ChallengeRuleEngine challengeRuleEngine;
+
+    private final ObjectMapper objectMapper;
+
+    // 시작 시 갱신과 주기 갱신이 겹칠 때 오래된 목록으로 덮어쓰지 않도록
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), "\"empty\"");
+
+    /**
+     * 현재 스냅샷 (활성 챌린지, ETag)
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * DB 에서 다시 읽어 스냅샷 교체 (시작 시 + 기본 1분마다)
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Scheduled(fixedDelayString = "${CHALLENGE_CATALOG_REFRESH_MS:60000}", initialDelayString = "${CHALLENGE_CATALOG_REFRESH_MS:60000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            // 달성 조건을 만들 수 없는 챌린지는 목록에서 제외 (한 건 때문에 갱신/시작이 실패하지 않도록)
+            List<ChallengeDto> challenges = new ArrayList<>();
+            List<ChallengeRule> rules = new ArrayList<>();
+            for (Challenge challenge : challengeRepository.findByIsActiveTrueOrderByIdAsc()) {
+                ChallengeDto dto = ChallengeDto.from(challenge);
+                try {
+                    rules.add(ChallengeRule.from(dto));
+                    challenges.add(dto);
+                } catch (RuntimeException e) {
+                    log.warn("챌린지 {} 제외: {}", challenge.getId(), e.getMessage());
+                }
+            }
+
+            String etag = etag(challenges);
+            if (etag.equals(snapshot.etag())) {
+                return;
+            }
+
+            // 목록과 달성 조건을 모두 만든 뒤에 함께 교체
+            Snapshot next = Snapshot.of(challenges, etag);
+            challengeRuleEngine.replaceRules(rules);
+            snapshot = next;
+            log.info("챌린지 목록 갱신: {}개 (ETag {})", challenges.size(), etag);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 응답 본문과 같은 JSON 의 해시
+    private String etag(List<ChallengeDto> challenges) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(challenges)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("챌린지 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 활성 챌린지 불변 스냅샷 (id, 목록 내 위치, 기간별 색인 포함)
+     */
+    public record Snapshot(List<ChallengeDto> challenges, Map<Long, ChallengeDto> byId, Map<Long, Integer> positions,
+                           Map<Integer, List<ChallengeDto>> byDuration, String etag) {
+
+        static Snapshot of(List<ChallengeDto> challenges, String etag) {
+            Map<Long, ChallengeDto> byId = challenges.stream()
+                    .collect(Collectors.toUnmodifiableMap(ChallengeDto::id, Function.identity()));
+            Map<Integer, List<ChallengeDto>> byDuration = challenges.stream()
+                    .collect(Collectors.groupingBy(ChallengeDto::duration,
+                            Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int i = 0; i < challenges.size(); i++) {
+                positions.put(challenges.get(i).id(), i);
+            }
+            return new Snapshot(List.copyOf(challenges), byId, Map.copyOf(positions), Map.copyOf(byDuration), etag);
+        }
+    }
+}
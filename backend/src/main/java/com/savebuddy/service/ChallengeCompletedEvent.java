@@ -0,0 +1,7 @@
+package com.savebuddy.service;
+
+/**
+ * 챌린지 완료 기록 저장 이벤트 (커밋 후 완료 상태 캐시 무효화용)
+ */
+public record ChallengeCompletedEvent(Long userId, String challengeId) {
+}
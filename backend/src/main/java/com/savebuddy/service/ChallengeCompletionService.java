@@ -2,15 +2,22 @@ package com.savebuddy.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.savebuddy.entity.ChallengeCompletion;
 import com.savebuddy.entity.User;
 import com.savebuddy.repository.ChallengeCompletionRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -20,16 +27,33 @@ public class ChallengeCompletionService {
 
     private final ChallengeCompletionRepository challengeCompletionRepository;
 
+    private final PlatformTransactionManager transactionManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PeriodWindow periodWindow;
+
+    // 현재 할당받은 ID 블록 [nextId, idBlockEnd) (가상 스레드 pinning 방지로 synchronized 대신 ReentrantLock, VirtualThreadPinningTest)
+    private final ReentrantLock idBlockLock = new ReentrantLock();
+
+    private long nextId;
+
+    private long idBlockEnd;
+
     /**
-     * 챌린지 완료 기록 저장
+     * 챌린지 완료 기록 저장 (잠금 없음)
+     * 중복은 유니크 키 (사용자, 챌린지, 기간, 기간 시작일) 의 INSERT ... ON DUPLICATE KEY UPDATE 로 막고
+     * (주간/월간도 같은 기간이면 완료일이 달라도 1건),
+     * 동시에 들어온 요청은 모두 먼저 저장된 같은 기록을 돌려받음 (여러 인스턴스에서도 동일)
      */
-    public synchronized ChallengeCompletion completeChallenge(User user, String challengeId, String challengeTitle, 
+    public ChallengeCompletion completeChallenge(User user, String challengeId, String challengeTitle, 
                                                ChallengeCompletion.ChallengePeriod period, Integer rewardAmount) {
         
-        // 중복 완료 방지 - 기간에 따라 다르게 처리
-        LocalDateTime checkSince = getCheckSinceTime(period);
+        // 중복 완료 방지 - 사용자 시간대 기준 이번 기간 (오늘, 이번주 월요일, 이번달 1일부터)
+        LocalDate today = periodWindow.today(user.getId());
+        LocalDate periodStart = PeriodWindow.startOf(period, today);
         Optional<ChallengeCompletion> existingCompletion = challengeCompletionRepository
-                .findRecentCompletion(user, challengeId, checkSince);
+                .findByUserAndChallengeIdAndPeriodAndPeriodStart(user, challengeId, period, periodStart);
         
         if (existingCompletion.isPresent()) {
             log.info("챌린지 {} 이미 완료됨 (사용자: {}, 완료일: {})", 
@@ -37,29 +61,52 @@ public class ChallengeCompletionService {
             return existingCompletion.get();
         }
 
-        try {
-            // 새로운 완료 기록 생성
-            ChallengeCompletion completion = new ChallengeCompletion(user, challengeId, challengeTitle, period, rewardAmount);
-            ChallengeCompletion saved = challengeCompletionRepository.save(completion);
-            
+        // 새로운 완료 기록 생성 (이미 있으면 기존 기록 유지)
+        // 완료 시각은 UTC, 완료일은 사용자 시간대 날짜
+        Long id = nextId();
+        int affected = challengeCompletionRepository.insertIfAbsent(id, user.getId(), challengeId,
+                challengeTitle, period.name(), rewardAmount, LocalDateTime.now(ZoneOffset.UTC), today, periodStart);
+
+        ChallengeCompletion saved = challengeCompletionRepository
+                .findByUniqueKey(user.getId(), challengeId, period, periodStart)
+                .orElseThrow(() -> new RuntimeException("챌린지 완료 처리 중 오류가 발생했습니다."));
+
+        // 0 이면 이미 있음, 1 은 드라이버 설정에 따라 이미 있는 행일 수도 있으므로 저장된 ID 로 확인
+        if (affected == 1 && saved.getId().equals(id)) {
             log.info("챌린지 완료 저장: {} (사용자: {}, 보상: {}원)", challengeTitle, user.getId(), rewardAmount);
-            return saved;
-            
-        } catch (Exception e) {
-            // 유니크 제약조건 위반 등으로 실패한 경우, 기존 기록 다시 조회
-            log.warn("챌린지 완료 저장 실패, 기존 기록 조회: {}", e.getMessage());
-            Optional<ChallengeCompletion> retryCompletion = challengeCompletionRepository
-                    .findRecentCompletion(user, challengeId, checkSince);
-            
-            if (retryCompletion.isPresent()) {
-                return retryCompletion.get();
+            eventPublisher.publishEvent(new ChallengeCompletedEvent(user.getId(), challengeId));
+        } else {
+            log.info("챌린지 {} 동시 요청으로 이미 완료됨 (사용자: {})", challengeId, user.getId());
+        }
+        return saved;
+    }
+
+    // 엔티티의 pooled-lo 생성기와 같은 방식으로 ID 할당 (id_sequences 의 값 = 다음 블록 시작, 블록은 별도 트랜잭션에서 예약)
+    private Long nextId() {
+        idBlockLock.lock();
+        try {
+            if (nextId >= idBlockEnd) {
+                Long blockStart = newTransaction().execute(status -> {
+                    challengeCompletionRepository.insertIdSequenceIfAbsent();
+                    Long start = challengeCompletionRepository.lockNextIdBlock();
+                    challengeCompletionRepository.updateNextIdBlock(start + ChallengeCompletion.ID_ALLOCATION_SIZE);
+                    return start;
+                });
+                nextId = blockStart;
+                idBlockEnd = blockStart + ChallengeCompletion.ID_ALLOCATION_SIZE;
             }
-            
-            // 그래도 없으면 예외 발생
-            throw new RuntimeException("챌린지 완료 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+            return nextId++;
+        } finally {
+            idBlockLock.unlock();
         }
     }
 
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
     /**
      * 사용자의 모든 챌린지 완료 기록 조회
      */
@@ -73,8 +120,8 @@ public class ChallengeCompletionService {
      */
     @Transactional(readOnly = true)
     public boolean isRecentlyCompleted(User user, String challengeId, ChallengeCompletion.ChallengePeriod period) {
-        LocalDateTime checkSince = getCheckSinceTime(period);
-        return challengeCompletionRepository.findRecentCompletion(user, challengeId, checkSince).isPresent();
+        LocalDate since = periodWindow.current(user.getId(), period).startDate();
+        return challengeCompletionRepository.findRecentCompletion(user, challengeId, since).isPresent();
     }
 
     /**
@@ -92,25 +139,4 @@ public class ChallengeCompletionService {
     public Long getTotalRewards(User user) {
         return challengeCompletionRepository.getTotalRewardsByUser(user);
     }
-
-    /**
-     * 기간별 체크 시작 시간 계산
-     */
-    private LocalDateTime getCheckSinceTime(ChallengeCompletion.ChallengePeriod period) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        switch (period) {
-            case DAILY:
-                // 오늘 00:00:00부터
-                return now.toLocalDate().atStartOfDay();
-            case WEEKLY:
-                // 7일 전부터
-                return now.minusDays(7);
-            case MONTHLY:
-                // 30일 전부터
-                return now.minusDays(30);
-            default:
-                return now.minusDays(1);
-        }
-    }
 }
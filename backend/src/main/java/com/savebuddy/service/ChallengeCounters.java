@@ -0,0 +1,130 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup;
+import com.savebuddy.service.ChallengeRule.Condition;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 챌린지 누적 값 (기간 구간별 카테고리 합계/횟수 + 연속 기록 일수)
+ * 기록 1건마다 해당 카테고리와 전체(null) 값만 갱신하고, 새로 넘어선 조건만 돌려줌
+ * 기간 구간: DAILY = 오늘, WEEKLY = 이번주(월요일 시작), MONTHLY = 이번달
+ */
+final class ChallengeCounters {
+
+    private static final ChallengePeriod[] PERIODS = ChallengePeriod.values();
+
+    // 가상 스레드 고정(pinning) 방지를 위해 synchronized 대신 ReentrantLock
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LocalDate[] bucketStarts = new LocalDate[PERIODS.length];
+
+    // 기간별 카테고리(전체는 null) → {금액 합계, 횟수}
+    private final List<Map<String, long[]>> totals = new ArrayList<>();
+
+    // 카테고리(전체는 null) → 연속 기록
+    private final Map<String, Streak> streaks = new HashMap<>();
+
+    private boolean loaded;
+
+    ChallengeCounters() {
+        for (int i = 0; i < PERIODS.length; i++) {
+            totals.add(new HashMap<>());
+        }
+    }
+
+    ReentrantLock lock() {
+        return lock;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    /**
+     * 기록 반영 후 새로 달성한 조건 반환 (lock 을 잡은 상태에서 호출)
+     * 현재 구간보다 이전 날짜의 기록은 연속 기록에만 반영
+     */
+    List<ChallengeRule> record(ChallengeRuleIndex index, LocalDate date, String category, long amount, long count) {
+        String recordCategory = category == null ? RecordDailyRollup.NO_CATEGORY : category;
+        List<ChallengeRule> crossed = new ArrayList<>();
+
+        for (ChallengePeriod period : PERIODS) {
+            LocalDate bucketStart = PeriodWindow.startOf(period, date);
+            LocalDate current = bucketStarts[period.ordinal()];
+            if (current != null && bucketStart.isBefore(current)) {
+                continue;
+            }
+
+            Map<String, long[]> periodTotals = totals.get(period.ordinal());
+            if (!bucketStart.equals(current)) {
+                // 새 구간 시작: 누적 값 초기화
+                periodTotals.clear();
+                bucketStarts[period.ordinal()] = bucketStart;
+            }
+
+            add(index, period, periodTotals, null, amount, count, crossed);
+            add(index, period, periodTotals, recordCategory, amount, count, crossed);
+        }
+
+        if (count > 0) {
+            advanceStreak(index, null, date, crossed);
+            advanceStreak(index, recordCategory, date, crossed);
+        }
+        return crossed;
+    }
+
+    /**
+     * 현재 누적 값으로 이미 충족된 조건 전체 (초기 적재 직후 평가용)
+     */
+    List<ChallengeRule> satisfied(ChallengeRuleIndex index) {
+        List<ChallengeRule> satisfied = new ArrayList<>();
+        for (ChallengePeriod period : PERIODS) {
+            totals.get(period.ordinal()).forEach((category, total) -> {
+                index.crossed(period, Condition.AMOUNT, category, 0, total[0], satisfied);
+                index.crossed(period, Condition.COUNT, category, 0, total[1], satisfied);
+            });
+        }
+        streaks.forEach((category, streak) ->
+                index.crossed(null, Condition.STREAK, category, 0, streak.days, satisfied));
+        return satisfied;
+    }
+
+    private void add(ChallengeRuleIndex index, ChallengePeriod period, Map<String, long[]> periodTotals,
+                     String category, long amount, long count, List<ChallengeRule> crossed) {
+        long[] total = periodTotals.computeIfAbsent(category, key -> new long[2]);
+        index.crossed(period, Condition.AMOUNT, category, total[0], total[0] + amount, crossed);
+        index.crossed(period, Condition.COUNT, category, total[1], total[1] + count, crossed);
+        total[0] += amount;
+        total[1] += count;
+    }
+
+    private void advanceStreak(ChallengeRuleIndex index, String category, LocalDate date, List<ChallengeRule> crossed) {
+        Streak streak = streaks.computeIfAbsent(category, key -> new Streak());
+        if (streak.lastDate != null && !date.isAfter(streak.lastDate)) {
+            return;
+        }
+
+        long before = streak.days;
+        streak.days = date.minusDays(1).equals(streak.lastDate) ? streak.days + 1 : 1;
+        streak.lastDate = date;
+        index.crossed(null, Condition.STREAK, category, before, streak.days, crossed);
+    }
+
+    private static final class Streak {
+
+        private LocalDate lastDate;
+
+        private long days;
+    }
+}
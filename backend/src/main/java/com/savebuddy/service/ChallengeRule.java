@@ -0,0 +1,37 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.ChallengeDto;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+
+/**
+ * 챌린지 달성 조건 (서버에서 기록 등록 시 평가)
+ * - AMOUNT: 기간 내 절약 금액 합계 >= target
+ * - COUNT: 기간 내 절약 횟수 >= target
+ * - STREAK: 연속 절약 일수 >= target (기간 무관, period 는 완료 기록용)
+ * category 가 null 이면 전체 카테고리 대상
+ */
+public record ChallengeRule(String challengeId, String title, ChallengePeriod period, Condition condition,
+                            String category, long target, int rewardAmount) {
+
+    public enum Condition {
+        AMOUNT, COUNT, STREAK
+    }
+
+    /**
+     * 챌린지 목록 항목의 달성 조건 (완료 기록의 challengeId 는 챌린지 id)
+     */
+    public static ChallengeRule from(ChallengeDto challenge) {
+        return new ChallengeRule(String.valueOf(challenge.id()), challenge.title(), challenge.period(),
+                Condition.valueOf(challenge.conditionType().name()), challenge.category(),
+                challenge.targetAmount(), challenge.experienceReward());
+    }
+
+    public ChallengeRule {
+        if (challengeId == null || title == null || period == null || condition == null) {
+            throw new IllegalArgumentException("챌린지 조건이 올바르지 않습니다.");
+        }
+        if (target < 1) {
+            throw new IllegalArgumentException("챌린지 목표 값은 1 이상이어야 합니다: " + challengeId);
+        }
+    }
+}
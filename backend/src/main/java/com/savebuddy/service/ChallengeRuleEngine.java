@@ -0,0 +1,189 @@
+package com.savebuddy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.repository.OAuth2UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 서버 측 챌린지 자동 완료
+ * 절약 기록이 커밋되면 사용자별 누적 값(ChallengeCounters)만 갱신해 새로 달성한 챌린지를 완료 처리
+ * 누적 값은 처음 한 번만 일별 집계에서 적재하고 이후에는 기록 이력을 다시 읽지 않음
+ * 캐시 만료(TTL) 시 다시 적재하므로 다른 인스턴스에서 등록된 기록도 그 안에 반영됨
+ */
+@Component
+@Slf4j
+public class ChallengeRuleEngine {
+
+    private final RecordRollupService recordRollupService;
+
+    private final ChallengeCompletionService challengeCompletionService;
+
+    private final OAuth2UserRepository oAuth2UserRepository;
+
+    private final PeriodWindow periodWindow;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final Cache<Long, ChallengeCounters> counters;
+
+    private volatile ChallengeRuleIndex index = ChallengeRuleIndex.EMPTY;
+
+    public ChallengeRuleEngine(RecordRollupService recordRollupService,
+                               ChallengeCompletionService challengeCompletionService,
+                               OAuth2UserRepository oAuth2UserRepository,
+                               PeriodWindow periodWindow,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${CHALLENGE_COUNTER_CACHE_MAX_SIZE:10000}") long maxSize,
+                               @Value("${CHALLENGE_COUNTER_CACHE_TTL_SECONDS:600}") long ttlSeconds,
+                               MeterRegistry meterRegistry) {
+        this.recordRollupService = recordRollupService;
+        this.challengeCompletionService = challengeCompletionService;
+        this.oAuth2UserRepository = oAuth2UserRepository;
+        this.periodWindow = periodWindow;
+        this.transactionManager = transactionManager;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counters, "challengeCounters");
+    }
+
+    /**
+     * 평가할 챌린지 조건 교체 (누적 값은 새 조건 기준으로 다시 적재)
+     */
+    public void replaceRules(Collection<ChallengeRule> rules) {
+        index = new ChallengeRuleIndex(rules);
+        counters.invalidateAll();
+        log.info("챌린지 조건 {}개 적용", rules.size());
+    }
+
+    /**
+     * 절약 기록 커밋 후 평가 (실패해도 기록 등록 응답에는 영향 없음)
+     * 평가와 챌린지별 완료 기록은 각각 새 트랜잭션 → 한 챌린지 완료가 실패해도 다른 완료는 저장되고,
+     * 롤백 표시된 트랜잭션이 커밋 후 콜백 밖으로 예외를 던지지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSavingRecord(SavingRecordEvent event) {
+        ChallengeRuleIndex rules = index;
+        if (rules.isEmpty()) {
+            return;
+        }
+
+        // 삭제는 연속 기록을 되돌릴 수 없으므로 다음 기록 때 다시 적재
+        if (event.deleted()) {
+            counters.invalidate(event.userId());
+            return;
+        }
+
+        Collection<ChallengeRule> achieved;
+        try {
+            achieved = newTransaction(true).execute(status -> confirm(rules, event.userId(), evaluate(rules, event)));
+        } catch (RuntimeException e) {
+            counters.invalidate(event.userId());
+            log.warn("챌린지 평가 실패 (사용자: {}): {}", event.userId(), e.toString());
+            return;
+        }
+
+        for (ChallengeRule rule : achieved) {
+            try {
+                newTransaction(false).executeWithoutResult(status -> challengeCompletionService.completeChallenge(
+                        oAuth2UserRepository.getReferenceById(event.userId()),
+                        rule.challengeId(), rule.title(), rule.period(), rule.rewardAmount()));
+            } catch (RuntimeException e) {
+                log.warn("챌린지 자동 완료 실패 (사용자: {}, 챌린지: {}): {}",
+                        event.userId(), rule.challengeId(), e.toString());
+            }
+        }
+    }
+
+    // 새로 달성한 조건 (처음이면 집계에서 적재 후 이미 충족된 조건 전체)
+    private List<ChallengeRule> evaluate(ChallengeRuleIndex rules, SavingRecordEvent event) {
+        ChallengeCounters userCounters = counters.get(event.userId(), key -> new ChallengeCounters());
+        userCounters.lock().lock();
+        try {
+            if (!userCounters.isLoaded()) {
+                // 커밋된 집계에 이번 기록들도 포함되어 있음
+                // (적재 중 커밋된 다른 요청의 기록은 그 요청의 평가에서 한 번 더 더해질 수 있음 → 완료 전 confirm 으로 확인)
+                load(rules, userCounters, event.userId(), periodWindow.today(event.userId()));
+                return userCounters.satisfied(rules);
+            }
+
+            List<ChallengeRule> achieved = new ArrayList<>();
+            for (SavingRecord record : event.records()) {
+                achieved.addAll(userCounters.record(rules, periodWindow.localDate(event.userId(), record.getCreatedAt()),
+                        record.getCategory(), record.getAmount(), 1));
+            }
+            return achieved;
+        } finally {
+            userCounters.lock().unlock();
+        }
+    }
+
+    // 누적 값으로 새로 달성한 조건 중 커밋된 일별 집계로도 충족되는 조건만 (누적 값이 어긋났으면 다음 기록 때 다시 적재)
+    private Collection<ChallengeRule> confirm(ChallengeRuleIndex rules, Long userId, List<ChallengeRule> achieved) {
+        Set<ChallengeRule> confirmed = new LinkedHashSet<>(achieved);
+        if (confirmed.isEmpty()) {
+            return confirmed;
+        }
+
+        ChallengeCounters committed = new ChallengeCounters();
+        load(rules, committed, userId, periodWindow.today(userId));
+        int before = confirmed.size();
+        confirmed.retainAll(committed.satisfied(rules));
+        if (confirmed.size() < before) {
+            counters.invalidate(userId);
+            log.info("챌린지 누적 값이 집계와 달라 다시 적재 (사용자: {})", userId);
+        }
+        return confirmed;
+    }
+
+    private TransactionTemplate newTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    // 이번달·이번주 구간과 최대 연속 일수만큼의 일별 집계를 날짜 순으로 재생
+    private void load(ChallengeRuleIndex rules, ChallengeCounters userCounters, Long userId, LocalDate today) {
+        LocalDate start = PeriodWindow.startOf(ChallengePeriod.MONTHLY, today);
+        LocalDate weekStart = PeriodWindow.startOf(ChallengePeriod.WEEKLY, today);
+        LocalDate streakStart = today.minusDays(rules.maxStreak());
+        if (weekStart.isBefore(start)) {
+            start = weekStart;
+        }
+        if (streakStart.isBefore(start)) {
+            start = streakStart;
+        }
+
+        for (Object[] row : recordRollupService.dailyRowsSince(userId, RecordType.SAVING, start)) {
+            userCounters.record(ChallengeRuleIndex.EMPTY, (LocalDate) row[0], (String) row[1],
+                    ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+        }
+        // 마지막 기록이 지난 구간이면 오늘 구간으로 넘김
+        userCounters.record(ChallengeRuleIndex.EMPTY, today, null, 0, 0);
+        userCounters.markLoaded();
+    }
+}
@@ -0,0 +1,107 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.service.ChallengeRule.Condition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챌린지 조건 색인 (불변)
+ * (기간, 조건, 카테고리) 별로 목표 값을 정렬해 두고, 누적 값이 from → to 로 바뀔 때
+ * 새로 넘어선 목표만 이진 탐색으로 찾음 (전체 챌린지 수와 무관)
+ */
+final class ChallengeRuleIndex {
+
+    static final ChallengeRuleIndex EMPTY = new ChallengeRuleIndex(List.of());
+
+    private final Map<Key, Thresholds> thresholds = new HashMap<>();
+
+    // 연속 기록 계산에 필요한 최대 일수 (초기 적재 구간)
+    private final long maxStreak;
+
+    ChallengeRuleIndex(Collection<ChallengeRule> rules) {
+        Map<Key, List<ChallengeRule>> grouped = new HashMap<>();
+        for (ChallengeRule rule : rules) {
+            grouped.computeIfAbsent(Key.of(rule), key -> new ArrayList<>()).add(rule);
+        }
+        grouped.forEach((key, group) -> thresholds.put(key, new Thresholds(group)));
+
+        maxStreak = rules.stream()
+                .filter(rule -> rule.condition() == Condition.STREAK)
+                .mapToLong(ChallengeRule::target)
+                .max()
+                .orElse(0);
+    }
+
+    boolean isEmpty() {
+        return thresholds.isEmpty();
+    }
+
+    long maxStreak() {
+        return maxStreak;
+    }
+
+    /**
+     * 누적 값이 (from, to] 구간에서 넘어선 조건을 out 에 추가
+     * @param period 연속 기록(STREAK)은 null
+     * @param category 전체 카테고리는 null
+     */
+    void crossed(ChallengePeriod period, Condition condition, String category, long from, long to,
+                 List<ChallengeRule> out) {
+        if (to <= from) {
+            return;
+        }
+        Thresholds candidates = thresholds.get(new Key(period, condition, category));
+        if (candidates != null) {
+            candidates.crossed(from, to, out);
+        }
+    }
+
+    private record Key(ChallengePeriod period, Condition condition, String category) {
+
+        static Key of(ChallengeRule rule) {
+            ChallengePeriod period = rule.condition() == Condition.STREAK ? null : rule.period();
+            return new Key(period, rule.condition(), rule.category());
+        }
+    }
+
+    private static final class Thresholds {
+
+        private final long[] targets;
+
+        private final ChallengeRule[] rules;
+
+        Thresholds(List<ChallengeRule> group) {
+            rules = group.stream()
+                    .sorted(Comparator.comparingLong(ChallengeRule::target))
+                    .toArray(ChallengeRule[]::new);
+            targets = Arrays.stream(rules).mapToLong(ChallengeRule::target).toArray();
+        }
+
+        void crossed(long from, long to, List<ChallengeRule> out) {
+            for (int i = firstAbove(from); i < targets.length && targets[i] <= to; i++) {
+                out.add(rules[i]);
+            }
+        }
+
+        // target > value 인 첫 위치
+        private int firstAbove(long value) {
+            int low = 0, high = targets.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (targets[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.savebuddy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.savebuddy.dto.ChallengeDto;
+import com.savebuddy.dto.ChallengeStatusDto;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.repository.ChallengeCompletionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 챌린지 목록 전체의 완료 여부 (챌린지마다 조회하지 않고 사용자별 비트셋 1개로 응답)
+ * 기간(일간/주간/월간) 구간별로 완료된 챌린지의 목록 내 위치를 비트로 저장
+ * - 조회 1회로 적재 후 캐시, 완료 기록 저장 시 커밋 후 무효화 (적재 중 무효화되면 그 결과는 캐시하지 않음)
+ * - 날짜가 바뀌면 구간이 끝난 기간의 비트만 비움 (다시 조회하지 않음)
+ * - 챌린지 목록이 바뀌면 위치가 달라지므로 다시 적재
+ */
+@Service
+public class ChallengeStatusService {
+
+    private static final ChallengePeriod[] PERIODS = ChallengePeriod.values();
+
+    // 무효화 세대 칸 수 (2의 거듭제곱, 사용자 id 로 나눔)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ChallengeCompletionRepository challengeCompletionRepository;
+
+    private final ChallengeCatalogService challengeCatalogService;
+
+    private final PeriodWindow periodWindow;
+
+    private final Cache<Long, CompletionBits> cache;
+
+    // 사용자별 무효화 세대 (메모리 고정, 칸이 겹치는 다른 사용자의 무효화는 캐시 저장만 한 번 건너뜀)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ChallengeStatusService(ChallengeCompletionRepository challengeCompletionRepository,
+                                  ChallengeCatalogService challengeCatalogService,
+                                  PeriodWindow periodWindow,
+                                  @Value("${CHALLENGE_STATUS_CACHE_MAX_SIZE:10000}") long maxSize,
+                                  @Value("${CHALLENGE_STATUS_CACHE_TTL_SECONDS:300}") long ttlSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.challengeCompletionRepository = challengeCompletionRepository;
+        this.challengeCatalogService = challengeCatalogService;
+        this.periodWindow = periodWindow;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "challengeStatus");
+    }
+
+    /**
+     * 활성 챌린지 전체의 현재 기간 완료 여부 (목록 순서)
+     */
+    public List<ChallengeStatusDto> getStatuses(Long userId) {
+        return getStatuses(userId, periodWindow.today(userId));
+    }
+
+    List<ChallengeStatusDto> getStatuses(Long userId, LocalDate today) {
+        ChallengeCatalogService.Snapshot snapshot = challengeCatalogService.snapshot();
+        CompletionBits bits = cache.getIfPresent(userId);
+
+        if (bits == null || bits.snapshot() != snapshot || today.isBefore(bits.today())) {
+            // 조회 중 완료 기록이 커밋되어 무효화되었으면 (세대 변경) 이전 값을 캐시에 넣지 않음
+            int stripe = stripe(userId);
+            long generation = generations.get(stripe);
+            CompletionBits loaded = load(userId, snapshot, today);
+            cache.asMap().compute(userId, (id, cached) -> generations.get(stripe) == generation ? loaded : cached);
+            bits = loaded;
+        } else if (!today.equals(bits.today())) {
+            // 그사이 무효화되었으면 교체하지 않음
+            CompletionBits rolled = bits.rolledOver(today);
+            cache.asMap().replace(userId, bits, rolled);
+            bits = rolled;
+        }
+
+        List<ChallengeDto> challenges = snapshot.challenges();
+        List<ChallengeStatusDto> statuses = new ArrayList<>(challenges.size());
+        for (int i = 0; i < challenges.size(); i++) {
+            ChallengePeriod period = challenges.get(i).period();
+            statuses.add(new ChallengeStatusDto(String.valueOf(challenges.get(i).id()), period,
+                    bits.completed()[period.ordinal()].get(i)));
+        }
+        return statuses;
+    }
+
+    /**
+     * 완료 기록이 저장되면 해당 사용자 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChallengeCompleted(ChallengeCompletedEvent event) {
+        generations.incrementAndGet(stripe(event.userId()));
+        cache.invalidate(event.userId());
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (GENERATION_STRIPES - 1));
+    }
+
+    // 가장 이른 구간 시작일 이후 완료 기록을 한 번에 읽어 기간별 비트셋 생성
+    private CompletionBits load(Long userId, ChallengeCatalogService.Snapshot snapshot, LocalDate today) {
+        LocalDate[] windowStarts = windowStarts(today);
+        LocalDate since = windowStarts[0];
+        for (LocalDate windowStart : windowStarts) {
+            if (windowStart.isBefore(since)) {
+                since = windowStart;
+            }
+        }
+
+        List<ChallengeDto> challenges = snapshot.challenges();
+        BitSet[] completed = new BitSet[PERIODS.length];
+        for (int p = 0; p < PERIODS.length; p++) {
+            completed[p] = new BitSet(challenges.size());
+        }
+
+        for (Object[] row : challengeCompletionRepository.findCompletedSince(userId, since)) {
+            int index = indexOf(snapshot, (String) row[0]);
+            if (index < 0) {
+                continue;
+            }
+            LocalDate completedDate = (LocalDate) row[1];
+            for (int p = 0; p < PERIODS.length; p++) {
+                if (!completedDate.isBefore(windowStarts[p])) {
+                    completed[p].set(index);
+                }
+            }
+        }
+        return new CompletionBits(snapshot, today, windowStarts, completed);
+    }
+
+    // 완료 기록의 챌린지 id → 목록 내 위치 (목록에 없으면 -1)
+    private int indexOf(ChallengeCatalogService.Snapshot snapshot, String challengeId) {
+        try {
+            return snapshot.positions().getOrDefault(Long.valueOf(challengeId), -1);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static LocalDate[] windowStarts(LocalDate today) {
+        LocalDate[] windowStarts = new LocalDate[PERIODS.length];
+        for (ChallengePeriod period : PERIODS) {
+            windowStarts[period.ordinal()] = PeriodWindow.startOf(period, today);
+        }
+        return windowStarts;
+    }
+
+    /**
+     * 사용자별 완료 비트셋 (불변, 날짜가 바뀌면 새로 만듦)
+     * completed[기간] 의 i 번째 비트 = 목록 i 번째 챌린지를 해당 기간 현재 구간에 완료했는지
+     */
+    private record CompletionBits(ChallengeCatalogService.Snapshot snapshot, LocalDate today,
+                                  LocalDate[] windowStarts, BitSet[] completed) {
+
+        // 구간이 바뀐 기간만 비우고 나머지는 그대로 사용
+        CompletionBits rolledOver(LocalDate newToday) {
+            LocalDate[] newStarts = ChallengeStatusService.windowStarts(newToday);
+            BitSet[] newCompleted = new BitSet[PERIODS.length];
+            for (int p = 0; p < PERIODS.length; p++) {
+                newCompleted[p] = newStarts[p].equals(windowStarts[p]) ? completed[p] : new BitSet();
+            }
+            return new CompletionBits(snapshot, newToday, newStarts, newCompleted);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.DashboardDto;
+import com.savebuddy.dto.PeriodTotalDto;
+import com.savebuddy.dto.RecordSummaryDto;
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.dto.UserDto;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.repository.ExpenseRecordRepository;
+import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.repository.SavingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    // 홈 화면 최근 기록 개수 (/latest 기본값과 동일)
+    private static final int LATEST_COUNT = 3;
+
+    private final OAuth2UserRepository oAuth2UserRepository;
+
+    private final SavingRecordRepository savingRecordRepository;
+
+    private final ExpenseRecordRepository expenseRecordRepository;
+
+    private final RecordRollupService recordRollupService;
+
+    private final PeriodWindow periodWindow;
+
+    private final Executor dashboardExecutor;
+
+    // 분기별 최대 대기 시간 (초과 시 해당 항목만 비워서 응답)
+    @Value("${DASHBOARD_BRANCH_TIMEOUT_MS:2000}")
+    private long branchTimeoutMs;
+
+    /**
+     * 홈 화면 데이터 (사용자 정보 + 절약/소비 오늘·이번달·최근 7일·카테고리·최근 기록)
+     * 사용자 / 집계 / 최근 절약 / 최근 소비 4개 조회를 병렬로 실행 (각자 트랜잭션)
+     * 실패하거나 시간 초과된 분기는 null 로 두고 partial, failedSections 로 표시
+     */
+    public CompletableFuture<DashboardDto> getDashboard(Long userId) {
+        // 오늘/이번달/최근 7일은 사용자 시간대 기준
+        LocalDate today = periodWindow.today(userId);
+        DashboardWindow window = new DashboardWindow(today, today.withDayOfMonth(1), today.minusDays(6));
+
+        CompletableFuture<UserDto> user = branch(() -> UserDto.from(oAuth2UserRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."))));
+        CompletableFuture<List<Object[]>> rows = branch(() -> recordRollupService.dashboardRows(userId, window.start()));
+        CompletableFuture<List<RecordView>> savingLatest = branch(() ->
+                savingRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(LATEST_COUNT)));
+        CompletableFuture<List<RecordView>> expenseLatest = branch(() ->
+                expenseRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(LATEST_COUNT)));
+
+        return CompletableFuture.allOf(user, rows, savingLatest, expenseLatest).handle((ignored, error) -> {
+            List<String> failedSections = new ArrayList<>();
+            UserDto userDto = result(user, "user", userId, failedSections);
+            List<Object[]> rollupRows = result(rows, "summary", userId, failedSections);
+            List<RecordView> savings = result(savingLatest, "savings.latest", userId, failedSections);
+            List<RecordView> expenses = result(expenseLatest, "expense.latest", userId, failedSections);
+
+            return DashboardDto.builder()
+                    .user(userDto)
+                    .savings(summarize(rollupRows, RecordType.SAVING, window, savings))
+                    .expense(summarize(rollupRows, RecordType.EXPENSE, window, expenses))
+                    .partial(!failedSections.isEmpty())
+                    .failedSections(failedSections)
+                    .build();
+        });
+    }
+
+    private <T> CompletableFuture<T> branch(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, dashboardExecutor)
+                    .orTimeout(branchTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 완료된 분기의 결과 (실패/시간 초과면 null 과 함께 실패 항목에 추가)
+    private <T> T result(CompletableFuture<T> branch, String section, Long userId, List<String> failedSections) {
+        if (branch.isCompletedExceptionally()) {
+            branch.exceptionally(e -> {
+                log.warn("대시보드 {} 조회 실패 (사용자: {}): {}", section, userId, e.toString());
+                return null;
+            });
+            failedSections.add(section);
+            return null;
+        }
+        return branch.join();
+    }
+
+    // 집계 행 [유형, 카테고리, 날짜, 총액, 건수] 을 기간별로 분배 (집계 조회 실패 시 최근 기록만)
+    private <T> RecordSummaryDto<T> summarize(List<Object[]> rows, RecordType recordType,
+                                              DashboardWindow window, List<T> latest) {
+        if (rows == null) {
+            return RecordSummaryDto.<T>builder().latest(latest).build();
+        }
+
+        long todayAmount = 0, todayCount = 0, monthAmount = 0, monthCount = 0;
+        Map<DayOfWeek, Long> week = new EnumMap<>(DayOfWeek.class);
+        Map<String, long[]> categories = new LinkedHashMap<>();
+
+        for (Object[] row : rows) {
+            if (!recordType.name().equals(row[0])) {
+                continue;
+            }
+
+            String category = (String) row[1];
+            LocalDate recordDate = toLocalDate(row[2]);
+            long amount = ((Number) row[3]).longValue();
+            long count = ((Number) row[4]).longValue();
+
+            long[] categoryTotal = categories.computeIfAbsent(category, key -> new long[2]);
+            categoryTotal[0] += amount;
+            categoryTotal[1] += count;
+
+            if (recordDate == null) {
+                continue;
+            }
+            if (recordDate.equals(window.today())) {
+                todayAmount += amount;
+                todayCount += count;
+            }
+            if (!recordDate.isBefore(window.monthStart())) {
+                monthAmount += amount;
+                monthCount += count;
+            }
+            if (!recordDate.isBefore(window.weekStart())) {
+                week.merge(recordDate.getDayOfWeek(), amount, Long::sum);
+            }
+        }
+
+        List<Object[]> categoryStats = new ArrayList<>();
+        categories.forEach((category, total) -> categoryStats.add(new Object[]{category, total[0], total[1]}));
+
+        return RecordSummaryDto.<T>builder()
+                .today(PeriodTotalDto.builder().totalAmount(todayAmount).count(todayCount).build())
+                .month(PeriodTotalDto.builder().totalAmount(monthAmount).count(monthCount).build())
+                .week(week)
+                .category(categoryStats)
+                .latest(latest)
+                .build();
+    }
+
+    // 네이티브 조회의 DATE 컬럼은 드라이버에 따라 java.sql.Date 로 반환됨
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private record DashboardWindow(LocalDate today, LocalDate monthStart, LocalDate weekStart) {
+
+        // 일자별로 받아야 하는 구간 시작일 (이번달 1일과 7일 전 중 이른 날)
+        LocalDate start() {
+            return monthStart.isBefore(weekStart) ? monthStart : weekStart;
+        }
+    }
+}
@@ -1,22 +1,30 @@
 package com.savebuddy.service;
 
+import com.savebuddy.dto.CategoryStat;
+import com.savebuddy.dto.CursorPageDto;
+import com.savebuddy.dto.DailySeries;
 import com.savebuddy.dto.ExpenseRecordInfoDto;
+import com.savebuddy.dto.RecordCursor;
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.dto.ExpenseRecordDto;
 import com.savebuddy.entity.ExpenseRecord;
 import com.savebuddy.entity.User;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
 import com.savebuddy.repository.ExpenseRecordRepository;
 import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.repository.RecordDailyRollupRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -29,125 +37,189 @@ public class ExpenseRecordService {
     private OAuth2UserRepository oAuth2UserRepository;
 
     @Autowired
-    private OAuth2UserService oAuth2UserService;
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private PeriodWindow periodWindow;
 
     // 소비 기록 등록
-    public ExpenseRecord createExpenseRecord(String email, String itemName, Long amount, String category, String memo) {
-        Optional<User> userOpt = oAuth2UserService.findByEmail(email);
-        if (!userOpt.isPresent()) {
+    public ExpenseRecord createExpenseRecord(Long userId, String itemName, Long amount, String category, String memo) {
+        // 사용자 총 소비 금액 - 단일 UPDATE 로 원자적 반영
+        if (oAuth2UserRepository.addExpense(userId, amount) == 0) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
 
-        User user = userOpt.get();
         ExpenseRecord record = new ExpenseRecord();
-        record.setUser(user);
+        record.setUser(oAuth2UserRepository.getReferenceById(userId));
         record.setItemName(itemName);
         record.setAmount(amount);
         record.setCategory(category);
         record.setMemo(memo);
 
-        ExpenseRecord expenseRecord = expenseRecordRepository.save(record);
+        // createdAt 은 INSERT 시점에 채워지므로 즉시 flush
+        ExpenseRecord expenseRecord = expenseRecordRepository.saveAndFlush(record);
 
-        // 사용자 총 소비 금액
-        user.setTotalExpense(Optional.ofNullable(user.getTotalExpense()).orElse(0L) + amount);
-//        user.setExperience(user.getExperience() + 10);
-        oAuth2UserRepository.save(user);
+        // 일별 집계 반영
+        recordRollupService.apply(userId, RecordType.EXPENSE, expenseRecord.getCreatedAt(), category, amount, 1);
 
         return expenseRecord;
     }
 
+    // 소비 기록 일괄 등록 (오프라인 대기분/가져오기) - 전체 검증 후 배치 INSERT
+    public List<ExpenseRecord> createExpenseRecords(Long userId, List<ExpenseRecordDto> requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            ExpenseRecordDto request = requests.get(i);
+            if (request == null || request.getItemName() == null || request.getItemName().isBlank()) {
+                throw new IllegalArgumentException((i + 1) + "번째 기록의 항목 이름이 비어 있습니다.");
+            }
+            if (request.getAmount() == null || request.getAmount() <= 0) {
+                throw new IllegalArgumentException((i + 1) + "번째 기록의 금액이 올바르지 않습니다.");
+            }
+        }
+
+        // 사용자 총 소비 금액을 한 번에 반영
+        long totalAmount = requests.stream().mapToLong(ExpenseRecordDto::getAmount).sum();
+        if (oAuth2UserRepository.addExpense(userId, totalAmount) == 0) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+
+        User user = oAuth2UserRepository.getReferenceById(userId);
+        List<ExpenseRecord> records = requests.stream().map(request -> {
+            ExpenseRecord record = new ExpenseRecord();
+            record.setUser(user);
+            record.setItemName(request.getItemName());
+            record.setAmount(request.getAmount());
+            record.setCategory(request.getCategory());
+            record.setMemo(request.getMemo());
+            return record;
+        }).toList();
+
+        List<ExpenseRecord> savedRecords = expenseRecordRepository.saveAllAndFlush(records);
+
+        // 일별 집계는 (날짜, 카테고리) 단위로 묶어 반영
+        recordRollupService.applyAll(userId, RecordType.EXPENSE, savedRecords,
+                ExpenseRecord::getCreatedAt, ExpenseRecord::getCategory, ExpenseRecord::getAmount);
+
+        return savedRecords;
+    }
+
     // 총 소비 기록 조회
-    public List<ExpenseRecord> allRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
-        return expenseRecordRepository.findByUserIdOrderByCreatedAtDesc(optUser.get().getId());
+    @Transactional(readOnly = true)
+    public List<RecordView> allRecords(Long userId){
+        return expenseRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.unlimited());
     }
 
-    // 오늘 소비 조회
-    public ExpenseRecordInfoDto todayRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
+    // 소비 기록 페이지 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecordView> pageRecords(Long userId, String cursor, int size){
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<RecordView> list;
+        if (cursor == null || cursor.isBlank()) {
+            list = expenseRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+        } else {
+            RecordCursor after = RecordCursor.decode(cursor);
+            list = expenseRecordRepository.findPageAfter(userId, after.createdAt(), after.id(), limit);
+        }
 
-        List<ExpenseRecord> list = expenseRecordRepository.findTodaySavingsByUserId(optUser.get().getId());
+        boolean hasNext = list.size() > size;
+        List<RecordView> page = hasNext ? list.subList(0, size) : list;
+        RecordView last = page.isEmpty() ? null : page.get(page.size() - 1);
 
-        return ExpenseRecordInfoDto.builder()
-                .totalAmount(list.stream().mapToLong(re -> re.getAmount()).sum())
-                .count(list.stream().count())
-                .data(list)
+        return CursorPageDto.<RecordView>builder()
+                .data(page)
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new RecordCursor(last.createdAt(), last.id()).encode() : null)
                 .build();
     }
 
+    // 오늘 소비 조회
+    @Transactional(readOnly = true)
+    public ExpenseRecordInfoDto todayRecords(Long userId, boolean includeData){
+        return periodRecords(userId, periodWindow.current(userId, ChallengePeriod.DAILY), includeData);
+    }
+
     // 이번달 소비 조회
-    public ExpenseRecordInfoDto monthRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
+    @Transactional(readOnly = true)
+    public ExpenseRecordInfoDto monthRecords(Long userId, boolean includeData){
+        return periodRecords(userId, periodWindow.current(userId, ChallengePeriod.MONTHLY), includeData);
+    }
 
-        List<ExpenseRecord> list = expenseRecordRepository.findThisMonthSavingsByUserId(optUser.get().getId());
+    // 사용자 시간대 기준 구간 합계 (기록 목록은 같은 구간의 UTC 저장 시각 범위로 조회)
+    private ExpenseRecordInfoDto periodRecords(Long userId, PeriodWindow.Window window, boolean includeData){
+        RecordDailyRollupRepository.RollupTotal total = recordRollupService.sumBetween(
+                userId, RecordType.EXPENSE, window.startDate(), window.endDate());
 
         return ExpenseRecordInfoDto.builder()
-                .totalAmount(list.stream().mapToLong(re -> re.getAmount()).sum())
-                .count(list.stream().count())
-                .data(list)
+                .totalAmount(total.getTotalAmount())
+                .count(total.getRecordCount())
+                .data(includeData ? expenseRecordRepository.findByUserIdAndCreatedAtRange(
+                        userId, window.start(), window.end()) : null)
                 .build();
     }
 
-    // 최근 3가지 소비 기록
-    public List<ExpenseRecord> getLatestRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
-
-        List<ExpenseRecord> list = expenseRecordRepository.findByUserIdOrderByCreatedAtDesc(optUser.get().getId());
-
-        return list.stream()
-                .sorted((a,b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(3).toList();
+    // 최근 n가지 소비 기록
+    @Transactional(readOnly = true)
+    public List<RecordView> getLatestRecords(Long userId, int n){
+        return expenseRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(n));
     }
 
-    // 최근 7일 소비 통계
-    public Map<DayOfWeek, Long> getWeekRecordsStatus(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
-
-        LocalDateTime startDate = LocalDate.now().minusDays(6).atStartOfDay();
-        LocalDateTime endDate = LocalDate.now().atTime(LocalTime.MAX);
-
-        List<ExpenseRecord> list = expenseRecordRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(optUser.get().getId(), startDate, endDate);
-
-
-        Map<DayOfWeek, Long> status = list.stream()
-                .collect(Collectors.groupingBy(
-                        sr -> sr.getCreatedAt().getDayOfWeek(),
-                        Collectors.summingLong(ExpenseRecord::getAmount)
-                ));
+    // 최근 7일 소비 통계 (요일별, 기록 있는 날만)
+    @Transactional(readOnly = true)
+    public Map<DayOfWeek, Long> getWeekRecordsStatus(Long userId){
+        DailySeries series = getDailySeries(userId, 7);
 
+        Map<DayOfWeek, Long> status = new EnumMap<>(DayOfWeek.class);
+        long[] amounts = series.amounts();
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] != 0) {
+                status.put(series.dateAt(i).getDayOfWeek(), amounts[i]);
+            }
+        }
         return status;
     }
 
+    // 오늘을 포함한 최근 days 일 소비 일자별 총액 (사용자 시간대 날짜, 빈 날은 0)
+    @Transactional(readOnly = true)
+    public DailySeries getDailySeries(Long userId, int days){
+        PeriodWindow.Window window = periodWindow.lastDays(userId, days);
+        return recordRollupService.dailySeries(userId, RecordType.EXPENSE, window.startDate(), window.endDate());
+    }
 
-    // 카테고리별 통계
-    public List<Object[]> getCategorySavingsStats(String email) {
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
 
-        return expenseRecordRepository.getCategorySavingsStatsByUserId(optUser.get().getId());
+    // 카테고리별 통계
+    @Transactional(readOnly = true)
+    public List<Object[]> getCategorySavingsStats(Long userId) {
+        return recordRollupService.categoryTotals(userId, RecordType.EXPENSE);
     }
 
-    // 기간별 소비 기록
-    public List<ExpenseRecord> getExpenseRecordsByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return expenseRecordRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, startDate, endDate);
+    // 카테고리별 통계 (사용자 시간대 날짜 [from, to], 생략 시 전체 기간, top 생략 시 전체)
+    @Transactional(readOnly = true)
+    public List<CategoryStat> getCategoryStats(Long userId, LocalDate from, LocalDate to, Integer top) {
+        LocalDate startDate = from != null ? from : LocalDate.EPOCH;
+        LocalDate endDate = (to != null ? to : periodWindow.today(userId)).plusDays(1);
+        return recordRollupService.categoryStats(userId, RecordType.EXPENSE, startDate, endDate,
+                top != null ? top : Integer.MAX_VALUE);
     }
 
     // 소비 기록 삭제
-    public void deleteExpenseRecord(Long recordId, String email) {
+    public void deleteExpenseRecord(Long recordId, Long userId) {
         Optional<ExpenseRecord> recordOpt = expenseRecordRepository.findById(recordId);
         if (recordOpt.isPresent()) {
             ExpenseRecord record = recordOpt.get();
-            if (record.getUser().getEmail().equals(email)) {
-                User user = record.getUser();
+            if (record.getUser().getId().equals(userId)) {
                 Long deletedAmount = record.getAmount();
 
+                // 사용자의 총 소비 금액에서 삭제된 금액 차감
+                // 등록과 같이 사용자 행부터 갱신 (같은 사용자의 집계 재계산과 잠금 순서 통일)
+                oAuth2UserRepository.addExpense(userId, -deletedAmount);
+
                 // 기록 삭제
                 expenseRecordRepository.delete(record);
+                recordRollupService.apply(userId, RecordType.EXPENSE, record.getCreatedAt(), record.getCategory(), -deletedAmount, -1);
 
-                // 사용자의 총 소비 금액에서 삭제된 금액 차감
-                user.setTotalSavings(user.getTotalSavings() - deletedAmount);
-                oAuth2UserRepository.save(user);
-
-                System.out.println("소비 기록 삭제 완료: " + deletedAmount + "원, 새로운 총액: " + user.getTotalSavings() + "원");
+                System.out.println("소비 기록 삭제 완료: " + deletedAmount + "원");
             } else {
                 throw new RuntimeException("권한이 없습니다.");
             }
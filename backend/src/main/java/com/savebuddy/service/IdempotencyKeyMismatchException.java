@@ -0,0 +1,11 @@
+package com.savebuddy.service;
+
+/**
+ * 이미 다른 요청 본문/엔드포인트에 사용된 Idempotency-Key 로 요청한 경우 (422 응답)
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException() {
+        super("다른 요청에 이미 사용된 Idempotency-Key 입니다.");
+    }
+}
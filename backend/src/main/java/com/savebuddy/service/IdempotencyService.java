@@ -0,0 +1,95 @@
+package com.savebuddy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savebuddy.dto.IdempotentResponse;
+import com.savebuddy.entity.IdempotencyKey;
+import com.savebuddy.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${IDEMPOTENCY_KEY_TTL_HOURS:24}")
+    private long ttlHours;
+
+    /**
+     * 같은 키로는 action 을 한 번만 실행 (action 과 같은 트랜잭션)
+     * - 처음 요청: 실행 후 응답을 키와 함께 저장
+     * - 재요청: 실행하지 않고 저장된 응답 반환 (처리 중이면 끝날 때까지 대기)
+     * - action 이 실패하면 키도 롤백되어 다시 시도 가능
+     */
+    public IdempotentResponse execute(Long userId, String key, String endpoint, Object request, Supplier<?> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 형식이 올바르지 않습니다.");
+        }
+
+        String requestHash = hash(endpoint + "\n" + toJson(request));
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.claim(userId, key, requestHash, now.plusHours(ttlHours), now);
+
+        IdempotencyKey stored = idempotencyKeyRepository.findForUpdate(userId, key)
+                .orElseThrow(() -> new RuntimeException("Idempotency-Key 처리 중 오류가 발생했습니다."));
+
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+        if (stored.getResponseBody() != null) {
+            log.info("Idempotency-Key 재요청, 저장된 응답 반환 (사용자: {}, 키: {})", userId, key);
+            return new IdempotentResponse(stored.getResponseBody(), true);
+        }
+
+        String body = toJson(action.get());
+        stored.setResponseBody(body);
+        return new IdempotentResponse(body, false);
+    }
+
+    /**
+     * 만료된 키 정리 (기본: 매시 정각)
+     */
+    @Scheduled(cron = "${IDEMPOTENCY_CLEANUP_CRON:0 0 * * * *}")
+    public void deleteExpired() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 Idempotency-Key 정리: {}건", deleted);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,64 +1,110 @@
 package com.savebuddy.service;
 
+import com.savebuddy.entity.User;
+import com.savebuddy.security.AuthUser;
+import com.savebuddy.security.VerifiedToken;
+import com.savebuddy.security.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Service
 public class JwtService {
 
+    public static final String CLAIM_USER_ID = "uid";
+
+    public static final String CLAIM_ROLE = "role";
+
     @Value("${JWT_SECRET:mySecretKey1234567890123456789012345678901234567890}")
     private String jwtSecret;
 
     @Value("${JWT_EXPIRATION:86400000}") // 24시간 (밀리초)
     private int jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 키와 파서는 시작 시 한 번만 생성 (JwtParser 는 불변 객체로 스레드 안전)
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    public String generateToken(Authentication authentication) {
-        OidcUser oidcUser = (OidcUser) authentication.getPrincipal();
-        String email = oidcUser.getEmail();
-        
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
-                .setSubject(email)
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole() == null ? User.Role.USER.name() : user.getRole().name())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 토큰 서명/만료 검증과 클레임 추출을 한 번에 처리
+     * (uid/role 클레임이 없는 이전 토큰은 id, role 이 null)
+     */
+    public Optional<AuthUser> verifyToken(String token) {
+        String tokenHash = VerifiedTokenCache.hash(token);
+        if (verifiedTokenCache.isRevoked(tokenHash)) {
+            return Optional.empty();
+        }
 
-        return claims.getSubject();
+        Optional<VerifiedToken> cached = verifiedTokenCache.get(tokenHash);
+        if (cached.isPresent()) {
+            return Optional.of(cached.get().user());
+        }
+
+        Optional<VerifiedToken> verified = parseToken(token);
+        verified.ifPresent(verifiedToken -> verifiedTokenCache.put(tokenHash, verifiedToken));
+        return verified.map(VerifiedToken::user);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 폐기 (로그아웃) - 만료 시각까지 검증 캐시와 관계없이 거부
+     */
+    public void revokeToken(String token) {
+        parseToken(token).ifPresent(verifiedToken ->
+                verifiedTokenCache.revoke(VerifiedTokenCache.hash(token), verifiedToken.expiresAt()));
+    }
+
+    // exp 가 없는 토큰은 거부 (이 서비스가 발급한 토큰은 모두 exp 포함, 만료 없는 토큰은 캐시/폐기 기한을 정할 수 없음)
+    private Optional<VerifiedToken> parseToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+
+            Number userId = claims.get(CLAIM_USER_ID, Number.class);
+            AuthUser user = new AuthUser(userId == null ? null : userId.longValue(),
+                    claims.getSubject(),
+                    claims.get(CLAIM_ROLE, String.class));
+            return Optional.of(new VerifiedToken(user, claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 }
@@ -1,12 +1,15 @@
 package com.savebuddy.service;
 
 
+import com.savebuddy.dto.UserIdentity;
 import com.savebuddy.entity.User;
 import com.savebuddy.repository.OAuth2UserRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.util.Optional;
 
 @Service
@@ -16,8 +19,19 @@ public class OAuth2UserService {
     @Autowired
     private OAuth2UserRepository oAuth2UserRepository;
 
+    @Autowired
+    private UserIdentityCache userIdentityCache;
+
+    @Autowired
+    private PeriodWindow periodWindow;
+
+    @Autowired
+    private RecordRollupService recordRollupService;
+
     // 유저 등록
     public User saveOrUpdateOAuth2User(String email, String nickname, String picture){
+        userIdentityCache.invalidate(email);
+
         Optional<User> existingUser = oAuth2UserRepository.findByEmail(email);
 
         if(existingUser.isPresent()){
@@ -49,8 +63,27 @@ public class OAuth2UserService {
         return oAuth2UserRepository.findByEmail(email);
     }
 
+    // 유저 id로 조회
+    public Optional<User> findById(Long id) {
+        return oAuth2UserRepository.findById(id);
+    }
+
+    // 유저 식별 정보 조회 (캐시 우선)
+    public Optional<UserIdentity> findIdentityByEmail(String email) {
+        return userIdentityCache.get(email, key -> oAuth2UserRepository.findByEmail(key).map(UserIdentity::from));
+    }
+
+    // 유저 id 조회 (캐시 우선)
+    public Long getUserId(String email) {
+        return findIdentityByEmail(email)
+                .map(UserIdentity::id)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+
     // 유저 월간 목표 금액 설정
     public User updateMonthlyTarget(String email, Long monthlyTarget){
+        userIdentityCache.invalidate(email);
+
         Optional<User> existingUser = oAuth2UserRepository.findByEmail(email);
 
         if(existingUser.isPresent()){
@@ -62,6 +95,25 @@ public class OAuth2UserService {
 
     }
 
+    // 유저 시간대 설정 (통계/챌린지 기간 기준)
+    public User updateTimeZone(String email, String timeZone){
+        try {
+            ZoneId.of(timeZone);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new IllegalArgumentException("올바르지 않은 시간대입니다: " + timeZone);
+        }
+
+        User user = oAuth2UserRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
+        user.setTimeZone(timeZone);
+        User saved = oAuth2UserRepository.saveAndFlush(user);
+        periodWindow.invalidateZone(user.getId());
+
+        // 기존 일별 집계를 새 시간대 날짜로 다시 생성 (이후 삭제분이 등록 때와 같은 날짜에 반영되도록)
+        recordRollupService.rebuildUserAfterCommit(user.getId());
+        return saved;
+    }
+
 
 
 }
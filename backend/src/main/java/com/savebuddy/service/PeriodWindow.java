@@ -0,0 +1,178 @@
+package com.savebuddy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.repository.OAuth2UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 사용자 시간대 기준 기간 구간 [start, end) 계산 (통계, 일별 집계, 챌린지가 모두 같은 구간 사용)
+ * - 일간: 오늘, 주간: 이번주 (월요일 시작), 월간: 이번달 (롤링 7일/30일이 아니라 달력 기준)
+ * - DB 에 저장되는 시각(createdAt 등)은 UTC, 집계 날짜(record_date, completed_date)는 사용자 시간대 날짜
+ * 같은 구간이면 요청 시각과 무관하게 경계가 같으므로 구간 단위로 캐시 가능
+ */
+@Component
+@Slf4j
+public class PeriodWindow {
+
+    // DB 저장 시각의 기준 시간대 (SaveBuddyApplication 에서 JVM 기본 시간대로 지정)
+    public static final ZoneId STORAGE_ZONE = ZoneOffset.UTC;
+
+    private final Clock clock = Clock.system(STORAGE_ZONE);
+
+    private final OAuth2UserRepository oAuth2UserRepository;
+
+    // 시간대를 설정하지 않은 사용자의 기본 시간대
+    private final ZoneId defaultZone;
+
+    private final Cache<Long, ZoneId> zones;
+
+    public PeriodWindow(OAuth2UserRepository oAuth2UserRepository,
+                        @Value("${DEFAULT_TIME_ZONE:Asia/Seoul}") String defaultZone,
+                        @Value("${USER_ZONE_CACHE_MAX_SIZE:10000}") long maxSize,
+                        @Value("${USER_ZONE_CACHE_TTL_SECONDS:600}") long ttlSeconds) {
+        this.oAuth2UserRepository = oAuth2UserRepository;
+        this.defaultZone = ZoneId.of(defaultZone);
+        this.zones = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자 시간대 (캐시 우선, 미설정/잘못된 값이면 기본 시간대)
+     */
+    public ZoneId zoneOf(Long userId) {
+        return zones.get(userId, this::loadZone);
+    }
+
+    /**
+     * 사용자 시간대 (캐시를 거치지 않고 DB 에서 조회 - 일별 집계 재계산용)
+     */
+    public ZoneId loadZone(Long userId) {
+        return oAuth2UserRepository.findTimeZoneById(userId)
+                .map(this::parseZone)
+                .orElse(defaultZone);
+    }
+
+    // 사용자 시간대 변경 시 무효화 (커밋 후 한 번 더 무효화하여 커밋 전 다른 요청이 다시 캐시한 이전 시간대 제거)
+    public void invalidateZone(Long userId) {
+        zones.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    zones.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 사용자 시간대의 오늘
+     */
+    public LocalDate today(Long userId) {
+        return LocalDate.now(clock.withZone(zoneOf(userId)));
+    }
+
+    /**
+     * 저장 시각(UTC)의 사용자 시간대 날짜
+     */
+    public LocalDate localDate(Long userId, LocalDateTime storedAt) {
+        return localDate(storedAt, zoneOf(userId));
+    }
+
+    /**
+     * 저장 시각(UTC)의 zone 기준 날짜
+     */
+    public static LocalDate localDate(LocalDateTime storedAt, ZoneId zone) {
+        return storedAt.atZone(STORAGE_ZONE).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    /**
+     * 사용자의 현재 기간 구간
+     */
+    public Window current(Long userId, ChallengePeriod period) {
+        return of(period, today(userId), zoneOf(userId));
+    }
+
+    /**
+     * 오늘을 포함한 최근 days 일 [오늘 - (days - 1), 내일)
+     */
+    public Window lastDays(Long userId, int days) {
+        LocalDate today = today(userId);
+        return new Window(today.minusDays(days - 1), today.plusDays(1), zoneOf(userId));
+    }
+
+    /**
+     * date 가 속한 기간 구간
+     */
+    public static Window of(ChallengePeriod period, LocalDate date, ZoneId zone) {
+        LocalDate start = startOf(period, date);
+        LocalDate end = switch (period) {
+            case DAILY -> start.plusDays(1);
+            case WEEKLY -> start.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(1);
+        };
+        return new Window(start, end, zone);
+    }
+
+    /**
+     * date 가 속한 기간 구간의 시작일
+     */
+    public static LocalDate startOf(ChallengePeriod period, LocalDate date) {
+        return switch (period) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    private ZoneId parseZone(String zone) {
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            log.warn("잘못된 사용자 시간대 {}, 기본 시간대 사용", zone);
+            return defaultZone;
+        }
+    }
+
+    /**
+     * 날짜 구간 [startDate, endDate) (사용자 시간대)
+     * start()/end() 는 같은 구간의 저장 시각(UTC) 범위 (createdAt 조회용)
+     */
+    public record Window(LocalDate startDate, LocalDate endDate, ZoneId zone) {
+
+        public LocalDateTime start() {
+            return toStorage(startDate);
+        }
+
+        public LocalDateTime end() {
+            return toStorage(endDate);
+        }
+
+        public boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && date.isBefore(endDate);
+        }
+
+        private LocalDateTime toStorage(LocalDate date) {
+            return date.atStartOfDay(zone).withZoneSameInstant(STORAGE_ZONE).toLocalDateTime();
+        }
+    }
+}
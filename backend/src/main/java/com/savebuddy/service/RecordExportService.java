@@ -0,0 +1,149 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.repository.ExpenseRecordRepository;
+import com.savebuddy.repository.SavingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 기록 전체 CSV 내보내기 (프론트 excelExport.ts 와 같은 열 구성)
+ * 전진 커서로 읽은 행을 바로 응답 스트림에 써서, 기록 수와 무관하게 메모리 사용량이 일정함
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 붙임
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecordExportService {
+
+    // 이 행 수마다 응답으로 내보냄 (chunked 전송)
+    private static final int FLUSH_ROWS = 1000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final SavingRecordRepository savingRecordRepository;
+
+    private final ExpenseRecordRepository expenseRecordRepository;
+
+    private final PeriodWindow periodWindow;
+
+    /**
+     * 내보내기 파일명 (예: 절약기록_2024-03-01.csv, 사용자 시간대 기준 날짜)
+     */
+    public String filename(Long userId, RecordType recordType) {
+        return label(recordType) + "기록_" + periodWindow.today(userId).format(DATE_FORMAT) + ".csv";
+    }
+
+    /**
+     * 사용자의 기록 전체를 최신순 CSV 로 출력 (마지막 행은 총 합계)
+     * 날짜/시간은 사용자 시간대로 변환
+     * @return 내보낸 기록 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCsv(Long userId, RecordType recordType, OutputStream out) throws IOException {
+        ZoneId zone = periodWindow.zoneOf(userId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        writer.write('\uFEFF');
+        writeRow(writer, "번호", "날짜", "시간", "항목명", "카테고리", label(recordType) + "금액", "메모");
+
+        long count = 0;
+        long totalAmount = 0;
+        try (Stream<RecordView> records = recordType == RecordType.SAVING
+                ? savingRecordRepository.streamByUserId(userId)
+                : expenseRecordRepository.streamByUserId(userId)) {
+            Iterator<RecordView> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                RecordView record = iterator.next();
+                ZonedDateTime createdAt = record.createdAt()
+                        .atZone(PeriodWindow.STORAGE_ZONE).withZoneSameInstant(zone);
+                long amount = record.amount() == null ? 0 : record.amount();
+                String memo = record.memo();
+
+                count++;
+                totalAmount += amount;
+                writeRow(writer, String.valueOf(count), createdAt.format(DATE_FORMAT), createdAt.format(TIME_FORMAT),
+                        record.itemName(), record.category(), String.valueOf(amount),
+                        memo == null || memo.isEmpty() ? "-" : memo);
+
+                if (count % FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writeRow(writer, "", "", "", "총 합계", "", String.valueOf(totalAmount), "총 " + count + "건");
+        writer.flush();
+
+        log.info("{} 기록 내보내기 완료 (사용자: {}, {}건)", label(recordType), userId, count);
+        return count;
+    }
+
+    private void writeRow(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석되는 값(=, +, -, @, 탭, CR 시작)은 작은따옴표를 붙임
+    private void writeField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        char first = value.charAt(0);
+        boolean formula = first == '\t' || first == '\r'
+                || ((first == '=' || first == '+' || first == '-' || first == '@')
+                        && value.length() > 1 && !isNumber(value));
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean isNumber(String value) {
+        for (int i = 1; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String label(RecordType recordType) {
+        return recordType == RecordType.SAVING ? "절약" : "소비";
+    }
+}
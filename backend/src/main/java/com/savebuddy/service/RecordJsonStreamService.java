@@ -0,0 +1,109 @@
+package com.savebuddy.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.repository.ExpenseRecordRepository;
+import com.savebuddy.repository.RecordDailyRollupRepository;
+import com.savebuddy.repository.SavingRecordRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 기록 목록 JSON 스트리밍 응답 (/all, today/month 의 includeData)
+ * 목록 전체를 만들지 않고 DB 커서에서 읽는 대로 한 건씩 직렬화해서,
+ * 첫 바이트까지의 시간과 메모리 사용량이 기록 수와 무관함
+ * (RecordView 프로젝션이라 영속성 컨텍스트에 쌓이는 엔티티도 없음)
+ * 응답 형식은 기존 List / RecordInfoDto 직렬화 결과와 같음
+ */
+@Service
+public class RecordJsonStreamService {
+
+    // 이 행 수마다 응답으로 내보냄
+    private static final int CHUNK_ROWS = 500;
+
+    private final SavingRecordRepository savingRecordRepository;
+
+    private final ExpenseRecordRepository expenseRecordRepository;
+
+    private final RecordRollupService recordRollupService;
+
+    private final PeriodWindow periodWindow;
+
+    private final ObjectMapper objectMapper;
+
+    // 기록마다 flush 하지 않도록 미리 만들어 둔 writer
+    private final ObjectWriter recordWriter;
+
+    public RecordJsonStreamService(SavingRecordRepository savingRecordRepository,
+                                   ExpenseRecordRepository expenseRecordRepository,
+                                   RecordRollupService recordRollupService,
+                                   PeriodWindow periodWindow,
+                                   ObjectMapper objectMapper) {
+        this.savingRecordRepository = savingRecordRepository;
+        this.expenseRecordRepository = expenseRecordRepository;
+        this.recordRollupService = recordRollupService;
+        this.periodWindow = periodWindow;
+        this.objectMapper = objectMapper;
+        this.recordWriter = objectMapper.writerFor(RecordView.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 전체 기록 배열 (최신순, 기존 /all 응답과 같은 형식)
+     */
+    @Transactional(readOnly = true)
+    public void writeAll(Long userId, RecordType recordType, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        writeArray(generator, recordType == RecordType.SAVING
+                ? savingRecordRepository.streamByUserId(userId)
+                : expenseRecordRepository.streamByUserId(userId));
+        generator.flush();
+    }
+
+    /**
+     * 사용자 시간대 기준 이번 기간 합계 + 기록 목록 ({count, totalAmount, data} 형식)
+     */
+    @Transactional(readOnly = true)
+    public void writePeriod(Long userId, RecordType recordType, ChallengePeriod period, OutputStream out) throws IOException {
+        PeriodWindow.Window window = periodWindow.current(userId, period);
+        RecordDailyRollupRepository.RollupTotal total = recordRollupService.sumBetween(
+                userId, recordType, window.startDate(), window.endDate());
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.writeStartObject();
+        generator.writeNumberField("count", total.getRecordCount());
+        generator.writeNumberField("totalAmount", total.getTotalAmount());
+        generator.writeFieldName("data");
+        writeArray(generator, recordType == RecordType.SAVING
+                ? savingRecordRepository.streamByUserIdAndCreatedAtRange(userId, window.start(), window.end())
+                : expenseRecordRepository.streamByUserIdAndCreatedAtRange(userId, window.start(), window.end()));
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    // 중간에 실패하면 닫는 괄호 없이 끊겨서 클라이언트가 잘린 응답을 구분할 수 있음
+    private void writeArray(JsonGenerator generator, Stream<RecordView> records) throws IOException {
+        try (records) {
+            generator.writeStartArray();
+            Iterator<RecordView> iterator = records.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                recordWriter.writeValue(generator, iterator.next());
+                if (++count % CHUNK_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+}
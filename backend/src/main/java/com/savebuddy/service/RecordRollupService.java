@@ -0,0 +1,310 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.CategoryStat;
+import com.savebuddy.dto.DailySeries;
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.entity.RecordDailyRollup;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.repository.ExpenseRecordRepository;
+import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.repository.RecordDailyRollupRepository;
+import com.savebuddy.repository.SavingRecordRepository;
+import com.savebuddy.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RecordRollupService {
+
+    static final String REBUILD_LOCK = "record-rollup-rebuild";
+
+    // 재계산 시 한 번에 조회하는 사용자 수
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final RecordDailyRollupRepository rollupRepository;
+
+    private final SavingRecordRepository savingRecordRepository;
+
+    private final ExpenseRecordRepository expenseRecordRepository;
+
+    private final OAuth2UserRepository oAuth2UserRepository;
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    private final PeriodWindow periodWindow;
+
+    private final PlatformTransactionManager transactionManager;
+
+    // 재계산 잠금 최대 유지 시간 (인스턴스가 중단되면 이 시간 후 다른 인스턴스가 실행)
+    @Value("${ROLLUP_REBUILD_LOCK_MINUTES:60}")
+    private long rebuildLockMinutes;
+
+    // 재계산 잠금 소유자 (인스턴스별)
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    /**
+     * 기록 등록/삭제분을 일별 집계에 반영 (호출한 서비스의 트랜잭션에 참여)
+     * 집계 날짜는 저장 시각(UTC)의 사용자 시간대 날짜
+     */
+    public void apply(Long userId, RecordType recordType, LocalDateTime createdAt, String category,
+                      long amountDelta, long countDelta) {
+        applyOnDate(userId, recordType, periodWindow.localDate(userId, createdAt), category, amountDelta, countDelta);
+    }
+
+    private void applyOnDate(Long userId, RecordType recordType, LocalDate recordDate, String category,
+                             long amountDelta, long countDelta) {
+        String rollupCategory = category == null ? RecordDailyRollup.NO_CATEGORY : category;
+
+        rollupRepository.upsert(userId, recordType.name(), recordDate, rollupCategory, amountDelta, countDelta);
+
+        if (countDelta < 0) {
+            rollupRepository.deleteEmpty(userId, recordType, recordDate, rollupCategory);
+        }
+    }
+
+    /**
+     * 일괄 등록분을 (날짜, 카테고리) 단위로 묶어 일별 집계에 반영
+     */
+    public <T> void applyAll(Long userId, RecordType recordType, List<T> records,
+                             Function<T, LocalDateTime> createdAt, Function<T, String> category,
+                             ToLongFunction<T> amount) {
+        sumByDate(records.stream(), periodWindow.zoneOf(userId), createdAt, category, amount)
+                .forEach((key, delta) ->
+                        applyOnDate(userId, recordType, key.recordDate(), key.category(), delta[0], delta[1]));
+    }
+
+    // 기록을 zone 기준 (날짜, 카테고리) 별 [총액, 건수] 로 합산
+    private <T> Map<RollupKey, long[]> sumByDate(Stream<T> records, ZoneId zone,
+                                                 Function<T, LocalDateTime> createdAt, Function<T, String> category,
+                                                 ToLongFunction<T> amount) {
+        Map<RollupKey, long[]> deltas = new LinkedHashMap<>();
+        records.forEach(record -> {
+            LocalDate recordDate = PeriodWindow.localDate(createdAt.apply(record), zone);
+            long[] delta = deltas.computeIfAbsent(
+                    new RollupKey(recordDate, category.apply(record)), key -> new long[2]);
+            delta[0] += amount.applyAsLong(record);
+            delta[1]++;
+        });
+        return deltas;
+    }
+
+    private record RollupKey(LocalDate recordDate, String category) {
+    }
+
+    /**
+     * 기간 [startDate, endDate) 합계
+     */
+    @Transactional(readOnly = true)
+    public RecordDailyRollupRepository.RollupTotal sumBetween(Long userId, RecordType recordType,
+                                                              LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.sumBetween(userId, recordType, startDate, endDate);
+    }
+
+    /**
+     * 기간 [startDate, endDate) 일자별 합계 [날짜, 총액]
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> dailyTotals(Long userId, RecordType recordType, LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.getDailyTotals(userId, recordType, startDate, endDate);
+    }
+
+    /**
+     * 기간 [startDate, endDate) 일자별 총액 (기록 없는 날은 0)
+     * 날짜별 GROUP BY 결과를 날짜 순 배열에 채움 (원본 기록은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public DailySeries dailySeries(Long userId, RecordType recordType, LocalDate startDate, LocalDate endDate) {
+        long[] amounts = new long[(int) ChronoUnit.DAYS.between(startDate, endDate)];
+        for (Object[] row : rollupRepository.getDailyTotals(userId, recordType, startDate, endDate)) {
+            amounts[(int) ChronoUnit.DAYS.between(startDate, (LocalDate) row[0])] = ((Number) row[1]).longValue();
+        }
+        return DailySeries.of(startDate, amounts);
+    }
+
+    /**
+     * startDate 이후 일별 집계 행 (날짜 순) [날짜, 카테고리, 총액, 건수]
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> dailyRowsSince(Long userId, RecordType recordType, LocalDate startDate) {
+        return rollupRepository.getDailyRowsSince(userId, recordType, startDate);
+    }
+
+    /**
+     * 카테고리별 합계 [카테고리, 총액, 건수]
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> categoryTotals(Long userId, RecordType recordType) {
+        return rollupRepository.getCategoryTotals(userId, recordType);
+    }
+
+    /**
+     * 기간 [startDate, endDate) 카테고리별 통계 (총액 내림차순 상위 top 개)
+     * 합계는 집계 테이블 GROUP BY 1회, 비중/순위/평균은 그 결과로 계산 (같은 총액은 같은 순위)
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryStat> categoryStats(Long userId, RecordType recordType,
+                                            LocalDate startDate, LocalDate endDate, int top) {
+        List<Object[]> rows = rollupRepository.getCategoryTotalsBetween(userId, recordType, startDate, endDate);
+
+        long grandTotal = 0;
+        for (Object[] row : rows) {
+            grandTotal += ((Number) row[1]).longValue();
+        }
+
+        List<CategoryStat> stats = new ArrayList<>();
+        int rank = 0;
+        long previousAmount = Long.MIN_VALUE;
+        for (int i = 0; i < rows.size() && i < top; i++) {
+            Object[] row = rows.get(i);
+            long totalAmount = ((Number) row[1]).longValue();
+            if (totalAmount != previousAmount) {
+                rank = i + 1;
+                previousAmount = totalAmount;
+            }
+            stats.add(CategoryStat.of((String) row[0], totalAmount, ((Number) row[2]).longValue(), grandTotal, rank));
+        }
+        return stats;
+    }
+
+    /**
+     * 대시보드용 집계 [유형, 카테고리, 날짜(windowStart 이전은 null), 총액, 건수]
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> dashboardRows(Long userId, LocalDate windowStart) {
+        return rollupRepository.getDashboardRows(userId, windowStart);
+    }
+
+    /**
+     * 원본 기록 테이블에서 집계 전체 재계산 (기본: 매일 04:30)
+     * 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행하고, 사용자마다 별도 트랜잭션으로 처리
+     * (테이블 전체를 한 트랜잭션으로 잠그지 않고, 실패한 사용자는 건너뛰고 다음 실행에서 다시 계산)
+     */
+    @Scheduled(cron = "${ROLLUP_REBUILD_CRON:0 30 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildAll() {
+        if (!tryLock()) {
+            log.info("다른 인스턴스에서 일별 집계 재계산 중, 건너뜀");
+            return;
+        }
+
+        int users = 0;
+        int failures = 0;
+        try {
+            List<Long> userIds;
+            Long lastUserId = 0L;
+            do {
+                userIds = oAuth2UserRepository.findIdsAfter(lastUserId, Limit.of(REBUILD_BATCH_SIZE));
+                for (Long userId : userIds) {
+                    try {
+                        newTransaction().executeWithoutResult(status -> rebuildUser(userId));
+                        users++;
+                    } catch (RuntimeException e) {
+                        failures++;
+                        log.warn("일별 집계 재계산 실패 (사용자: {})", userId, e);
+                    }
+                    lastUserId = userId;
+                }
+            } while (userIds.size() == REBUILD_BATCH_SIZE);
+        } finally {
+            unlock();
+        }
+
+        log.info("일별 집계 재계산 완료 (사용자: {}명, 실패: {}명)", users, failures);
+    }
+
+    /**
+     * 사용자의 일별 집계를 원본 기록에서 다시 생성 (정기 재계산, 시간대 변경 시)
+     * 날짜는 기록 등록 시(apply)와 같은 PeriodWindow 변환으로 계산 (DB 시간대 테이블 불필요),
+     * 시간대는 캐시가 아니라 DB 의 현재 값 사용
+     * 사용자 행을 먼저 잠가서 같은 사용자의 기록 등록/삭제(역시 사용자 행부터 갱신)와 순서대로 실행
+     * → 재계산 중 들어온 증감분이 유실되거나 두 번 반영되지 않음
+     */
+    public void rebuildUser(Long userId) {
+        oAuth2UserRepository.lockById(userId);
+
+        ZoneId zone = periodWindow.loadZone(userId);
+        rollupRepository.deleteByUserId(userId);
+        rebuildFrom(userId, RecordType.SAVING, savingRecordRepository.streamByUserId(userId), zone);
+        rebuildFrom(userId, RecordType.EXPENSE, expenseRecordRepository.streamByUserId(userId), zone);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 새 트랜잭션에서 rebuildUser (시간대 변경 시)
+     * 변경 트랜잭션 안에서 읽은 스냅샷이 아니라 사용자 행 잠금 이후의 기록으로 다시 계산
+     */
+    public void rebuildUserAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            newTransaction().executeWithoutResult(status -> rebuildUser(userId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                newTransaction().executeWithoutResult(status -> rebuildUser(userId));
+            }
+        });
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    // 재계산 잠금 획득 (만료된 잠금만 가져감)
+    private boolean tryLock() {
+        LocalDateTime now = lockClock();
+        Integer acquired = newTransaction().execute(status -> {
+            schedulerLockRepository.insertIfAbsent(REBUILD_LOCK, now);
+            return schedulerLockRepository.acquire(REBUILD_LOCK, instanceId, now, now.plusMinutes(rebuildLockMinutes));
+        });
+        return acquired != null && acquired == 1;
+    }
+
+    private void unlock() {
+        newTransaction().executeWithoutResult(status ->
+                schedulerLockRepository.release(REBUILD_LOCK, instanceId, lockClock()));
+    }
+
+    // 잠금 시각은 초 단위 (DATETIME 저장 시 반올림되어 방금 만든 잠금 행이 아직 만료 전으로 보이지 않도록)
+    private LocalDateTime lockClock() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void rebuildFrom(Long userId, RecordType recordType, Stream<RecordView> records, ZoneId zone) {
+        try (records) {
+            sumByDate(records, zone, RecordView::createdAt, RecordView::category, RecordView::amount)
+                    .forEach((key, total) ->
+                            applyOnDate(userId, recordType, key.recordDate(), key.category(), total[0], total[1]));
+        }
+    }
+}
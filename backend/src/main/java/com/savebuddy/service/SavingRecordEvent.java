@@ -0,0 +1,19 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.SavingRecord;
+
+import java.util.List;
+
+/**
+ * 절약 기록 등록/삭제 이벤트 (트랜잭션당 1건, 커밋 후 챌린지 평가용)
+ */
+public record SavingRecordEvent(Long userId, List<SavingRecord> records, boolean deleted) {
+
+    public static SavingRecordEvent created(Long userId, List<SavingRecord> records) {
+        return new SavingRecordEvent(userId, records, false);
+    }
+
+    public static SavingRecordEvent deleted(Long userId, SavingRecord record) {
+        return new SavingRecordEvent(userId, List.of(record), true);
+    }
+}
@@ -1,27 +1,39 @@
 package com.savebuddy.service;
 
+import com.savebuddy.dto.CategoryStat;
+import com.savebuddy.dto.CursorPageDto;
+import com.savebuddy.dto.DailySeries;
 import com.savebuddy.dto.RecordInfoDto;
+import com.savebuddy.dto.RecordCursor;
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.dto.SavingRecordDto;
 import com.savebuddy.entity.SavingRecord;
 import com.savebuddy.entity.User;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
 import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.repository.RecordDailyRollupRepository;
 import com.savebuddy.repository.SavingRecordRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class SavingRecordService {
 
+    // 절약 1회당 경험치
+    private static final int SAVING_EXPERIENCE = 10;
+
     @Autowired
     private SavingRecordRepository savingRecordRepository;
 
@@ -29,125 +41,199 @@ public class SavingRecordService {
     private OAuth2UserRepository oAuth2UserRepository;
 
     @Autowired
-    private OAuth2UserService oAuth2UserService;
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private PeriodWindow periodWindow;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     // 절약 기록 등록
-    public SavingRecord createSavingRecord(String email, String itemName, Long amount, String category, String memo) {
-        Optional<User> userOpt = oAuth2UserService.findByEmail(email);
-        if (!userOpt.isPresent()) {
+    public SavingRecord createSavingRecord(Long userId, String itemName, Long amount, String category, String memo) {
+        // 사용자 총 절약 금액 & 경험치 추가(1회당 10exp) - 단일 UPDATE 로 원자적 반영
+        if (oAuth2UserRepository.addSavings(userId, amount, SAVING_EXPERIENCE) == 0) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
 
-        User user = userOpt.get();
         SavingRecord record = new SavingRecord();
-        record.setUser(user);
+        record.setUser(oAuth2UserRepository.getReferenceById(userId));
         record.setItemName(itemName);
         record.setAmount(amount);
         record.setCategory(category);
         record.setMemo(memo);
 
-        SavingRecord savedRecord = savingRecordRepository.save(record);
+        // createdAt 은 INSERT 시점에 채워지므로 즉시 flush
+        SavingRecord savedRecord = savingRecordRepository.saveAndFlush(record);
+
+        // 일별 집계 반영
+        recordRollupService.apply(userId, RecordType.SAVING, savedRecord.getCreatedAt(), category, amount, 1);
 
-        // 사용자 총 절약 금액 & 경험치 추가(1회당 10exp)
-        user.setTotalSavings(user.getTotalSavings() + amount);
-        user.setExperience(user.getExperience() + 10);
-        oAuth2UserRepository.save(user);
+        // 커밋 후 챌린지 평가
+        eventPublisher.publishEvent(SavingRecordEvent.created(userId, List.of(savedRecord)));
 
         return savedRecord;
     }
 
+    // 절약 기록 일괄 등록 (오프라인 대기분/가져오기) - 전체 검증 후 배치 INSERT
+    public List<SavingRecord> createSavingRecords(Long userId, List<SavingRecordDto> requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            SavingRecordDto request = requests.get(i);
+            if (request == null || request.getItemName() == null || request.getItemName().isBlank()) {
+                throw new IllegalArgumentException((i + 1) + "번째 기록의 항목 이름이 비어 있습니다.");
+            }
+            if (request.getAmount() == null || request.getAmount() <= 0) {
+                throw new IllegalArgumentException((i + 1) + "번째 기록의 금액이 올바르지 않습니다.");
+            }
+        }
+
+        // 사용자 총 절약 금액 & 경험치를 한 번에 반영
+        long totalAmount = requests.stream().mapToLong(SavingRecordDto::getAmount).sum();
+        if (oAuth2UserRepository.addSavings(userId, totalAmount, SAVING_EXPERIENCE * requests.size()) == 0) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+
+        User user = oAuth2UserRepository.getReferenceById(userId);
+        List<SavingRecord> records = requests.stream().map(request -> {
+            SavingRecord record = new SavingRecord();
+            record.setUser(user);
+            record.setItemName(request.getItemName());
+            record.setAmount(request.getAmount());
+            record.setCategory(request.getCategory());
+            record.setMemo(request.getMemo());
+            return record;
+        }).toList();
+
+        List<SavingRecord> savedRecords = savingRecordRepository.saveAllAndFlush(records);
+
+        // 일별 집계는 (날짜, 카테고리) 단위로 묶어 반영
+        recordRollupService.applyAll(userId, RecordType.SAVING, savedRecords,
+                SavingRecord::getCreatedAt, SavingRecord::getCategory, SavingRecord::getAmount);
+
+        // 커밋 후 챌린지 평가
+        eventPublisher.publishEvent(SavingRecordEvent.created(userId, savedRecords));
+
+        return savedRecords;
+    }
+
     // 총 절약 기록 조회
-    public List<SavingRecord> allRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
-        return savingRecordRepository.findByUserIdOrderByCreatedAtDesc(optUser.get().getId());
+    @Transactional(readOnly = true)
+    public List<RecordView> allRecords(Long userId){
+        return savingRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.unlimited());
     }
 
-    // 오늘 절약 조회
-    public RecordInfoDto todayRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
+    // 절약 기록 페이지 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecordView> pageRecords(Long userId, String cursor, int size){
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<RecordView> list;
+        if (cursor == null || cursor.isBlank()) {
+            list = savingRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+        } else {
+            RecordCursor after = RecordCursor.decode(cursor);
+            list = savingRecordRepository.findPageAfter(userId, after.createdAt(), after.id(), limit);
+        }
 
-        List<SavingRecord> list = savingRecordRepository.findTodaySavingsByUserId(optUser.get().getId());
+        boolean hasNext = list.size() > size;
+        List<RecordView> page = hasNext ? list.subList(0, size) : list;
+        RecordView last = page.isEmpty() ? null : page.get(page.size() - 1);
 
-        return RecordInfoDto.builder()
-                .totalAmount(list.stream().mapToLong(re -> re.getAmount()).sum())
-                .count(list.stream().count())
-                .data(list)
+        return CursorPageDto.<RecordView>builder()
+                .data(page)
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new RecordCursor(last.createdAt(), last.id()).encode() : null)
                 .build();
     }
 
+    // 오늘 절약 조회
+    @Transactional(readOnly = true)
+    public RecordInfoDto todayRecords(Long userId, boolean includeData){
+        return periodRecords(userId, periodWindow.current(userId, ChallengePeriod.DAILY), includeData);
+    }
+
     // 이번달 절약 조회
-    public RecordInfoDto monthRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
+    @Transactional(readOnly = true)
+    public RecordInfoDto monthRecords(Long userId, boolean includeData){
+        return periodRecords(userId, periodWindow.current(userId, ChallengePeriod.MONTHLY), includeData);
+    }
 
-        List<SavingRecord> list = savingRecordRepository.findThisMonthSavingsByUserId(optUser.get().getId());
+    // 사용자 시간대 기준 구간 합계 (기록 목록은 같은 구간의 UTC 저장 시각 범위로 조회)
+    private RecordInfoDto periodRecords(Long userId, PeriodWindow.Window window, boolean includeData){
+        RecordDailyRollupRepository.RollupTotal total = recordRollupService.sumBetween(
+                userId, RecordType.SAVING, window.startDate(), window.endDate());
 
         return RecordInfoDto.builder()
-                .totalAmount(list.stream().mapToLong(re -> re.getAmount()).sum())
-                .count(list.stream().count())
-                .data(list)
+                .totalAmount(total.getTotalAmount())
+                .count(total.getRecordCount())
+                .data(includeData ? savingRecordRepository.findByUserIdAndCreatedAtRange(
+                        userId, window.start(), window.end()) : null)
                 .build();
     }
 
-    // 최근 3가지 절약 기록
-    public List<SavingRecord> getLatestRecords(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
-
-        List<SavingRecord> list = savingRecordRepository.findByUserIdOrderByCreatedAtDesc(optUser.get().getId());
-
-        return list.stream()
-                .sorted((a,b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(3).toList();
+    // 최근 n가지 절약 기록
+    @Transactional(readOnly = true)
+    public List<RecordView> getLatestRecords(Long userId, int n){
+        return savingRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(n));
     }
 
-    // 최근 7일 절약 통계
-    public Map<DayOfWeek, Long> getWeekRecordsStatus(String email){
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
-
-        LocalDateTime startDate = LocalDate.now().minusDays(6).atStartOfDay();
-        LocalDateTime endDate = LocalDate.now().atTime(LocalTime.MAX);
-
-        List<SavingRecord> list = savingRecordRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(optUser.get().getId(), startDate, endDate);
-
-
-        Map<DayOfWeek, Long> status = list.stream()
-                .collect(Collectors.groupingBy(
-                        sr -> sr.getCreatedAt().getDayOfWeek(),
-                        Collectors.summingLong(SavingRecord::getAmount)
-                ));
+    // 최근 7일 절약 통계 (요일별, 기록 있는 날만)
+    @Transactional(readOnly = true)
+    public Map<DayOfWeek, Long> getWeekRecordsStatus(Long userId){
+        DailySeries series = getDailySeries(userId, 7);
 
+        Map<DayOfWeek, Long> status = new EnumMap<>(DayOfWeek.class);
+        long[] amounts = series.amounts();
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] != 0) {
+                status.put(series.dateAt(i).getDayOfWeek(), amounts[i]);
+            }
+        }
         return status;
     }
 
+    // 오늘을 포함한 최근 days 일 절약 일자별 총액 (사용자 시간대 날짜, 빈 날은 0)
+    @Transactional(readOnly = true)
+    public DailySeries getDailySeries(Long userId, int days){
+        PeriodWindow.Window window = periodWindow.lastDays(userId, days);
+        return recordRollupService.dailySeries(userId, RecordType.SAVING, window.startDate(), window.endDate());
+    }
 
-    // 카테고리별 통계
-    public List<Object[]> getCategorySavingsStats(String email) {
-        Optional<User> optUser = oAuth2UserService.findByEmail(email);
 
-        return savingRecordRepository.getCategorySavingsStatsByUserId(optUser.get().getId());
+    // 카테고리별 통계
+    @Transactional(readOnly = true)
+    public List<Object[]> getCategorySavingsStats(Long userId) {
+        return recordRollupService.categoryTotals(userId, RecordType.SAVING);
     }
 
-    // 기간별 절약 기록
-    public List<SavingRecord> getSavingRecordsByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        return savingRecordRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, startDate, endDate);
+    // 카테고리별 통계 (사용자 시간대 날짜 [from, to], 생략 시 전체 기간, top 생략 시 전체)
+    @Transactional(readOnly = true)
+    public List<CategoryStat> getCategoryStats(Long userId, LocalDate from, LocalDate to, Integer top) {
+        LocalDate startDate = from != null ? from : LocalDate.EPOCH;
+        LocalDate endDate = (to != null ? to : periodWindow.today(userId)).plusDays(1);
+        return recordRollupService.categoryStats(userId, RecordType.SAVING, startDate, endDate,
+                top != null ? top : Integer.MAX_VALUE);
     }
 
     // 절약 기록 삭제
-    public void deleteSavingRecord(Long recordId, String email) {
+    public void deleteSavingRecord(Long recordId, Long userId) {
         Optional<SavingRecord> recordOpt = savingRecordRepository.findById(recordId);
         if (recordOpt.isPresent()) {
             SavingRecord record = recordOpt.get();
-            if (record.getUser().getEmail().equals(email)) {
-                User user = record.getUser();
+            if (record.getUser().getId().equals(userId)) {
                 Long deletedAmount = record.getAmount();
-                
+
+                // 사용자의 총 절약 금액에서 삭제된 금액 차감
+                // 등록과 같이 사용자 행부터 갱신 (같은 사용자의 집계 재계산과 잠금 순서 통일)
+                oAuth2UserRepository.addSavings(userId, -deletedAmount, 0);
+
                 // 기록 삭제
                 savingRecordRepository.delete(record);
-                
-                // 사용자의 총 절약 금액에서 삭제된 금액 차감
-                user.setTotalSavings(user.getTotalSavings() - deletedAmount);
-                oAuth2UserRepository.save(user);
-                
-                System.out.println("절약 기록 삭제 완료: " + deletedAmount + "원, 새로운 총액: " + user.getTotalSavings() + "원");
+                recordRollupService.apply(userId, RecordType.SAVING, record.getCreatedAt(), record.getCategory(), -deletedAmount, -1);
+                eventPublisher.publishEvent(SavingRecordEvent.deleted(userId, record));
+
+                System.out.println("절약 기록 삭제 완료: " + deletedAmount + "원");
             } else {
                 throw new RuntimeException("권한이 없습니다.");
             }
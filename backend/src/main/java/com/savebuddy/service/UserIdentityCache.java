@@ -0,0 +1,55 @@
+package com.savebuddy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.savebuddy.dto.UserIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 이메일 → 사용자 식별 정보 로컬 캐시 (크기 제한 + TTL)
+ * hit/miss/eviction 통계는 /actuator/metrics/cache.* (cache=userIdentity) 로 노출
+ */
+@Component
+public class UserIdentityCache {
+
+    private final Cache<String, UserIdentity> cache;
+
+    public UserIdentityCache(@Value("${USER_CACHE_MAX_SIZE:10000}") long maxSize,
+                             @Value("${USER_CACHE_TTL_SECONDS:600}") long ttlSeconds,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userIdentity");
+    }
+
+    // 캐시에 없으면 loader 로 조회 (조회 결과가 없으면 캐시하지 않음)
+    public Optional<UserIdentity> get(String email, Function<String, Optional<UserIdentity>> loader) {
+        return Optional.ofNullable(cache.get(email, key -> loader.apply(key).orElse(null)));
+    }
+
+    // 사용자 정보 변경 시 무효화 (트랜잭션 커밋 후 한 번 더 무효화하여 커밋 전 재적재된 값 제거)
+    public void invalidate(String email) {
+        cache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- V10: 스케줄 작업 잠금 (일별 집계 재계산 등을 한 인스턴스에서만 실행)
+
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    name VARCHAR(64) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
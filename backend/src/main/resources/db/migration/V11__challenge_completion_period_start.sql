@@ -0,0 +1,34 @@
+-- V11: 챌린지 완료 중복 방지를 기간 시작일 기준으로 변경 (주간/월간도 같은 기간이면 1건)
+-- 배포 전에 실행
+
+-- 1. period_start 컬럼 추가 및 기존 데이터 설정 (당일, 그 주 월요일, 그 달 1일)
+ALTER TABLE challenge_completions
+ADD COLUMN period_start DATE;
+
+UPDATE challenge_completions
+SET period_start = CASE period
+    WHEN 'WEEKLY' THEN DATE_SUB(completed_date, INTERVAL WEEKDAY(completed_date) DAY)
+    WHEN 'MONTHLY' THEN DATE_SUB(completed_date, INTERVAL DAYOFMONTH(completed_date) - 1 DAY)
+    ELSE completed_date
+END
+WHERE period_start IS NULL;
+
+ALTER TABLE challenge_completions
+MODIFY COLUMN period_start DATE NOT NULL;
+
+-- 2. 중복 기록 정리 (같은 사용자, 같은 챌린지, 같은 기간의 중복은 먼저 저장된 기록만 남김)
+DELETE c1 FROM challenge_completions c1
+INNER JOIN challenge_completions c2
+WHERE c1.id > c2.id
+AND c1.user_id = c2.user_id
+AND c1.challenge_id = c2.challenge_id
+AND c1.period = c2.period
+AND c1.period_start = c2.period_start;
+
+-- 3. 유니크 제약조건 교체
+ALTER TABLE challenge_completions
+DROP INDEX uk_user_challenge_period_date;
+
+ALTER TABLE challenge_completions
+ADD CONSTRAINT uk_user_challenge_period_start
+UNIQUE (user_id, challenge_id, period, period_start);
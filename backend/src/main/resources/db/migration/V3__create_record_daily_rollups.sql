@@ -0,0 +1,29 @@
+-- V3: 사용자 × 날짜 × 카테고리 일별 집계 테이블 생성 및 기존 기록으로 초기 집계
+
+-- 1. 집계 테이블 생성
+CREATE TABLE IF NOT EXISTS record_daily_rollups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    record_type VARCHAR(16) NOT NULL,
+    record_date DATE NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    total_amount BIGINT NOT NULL,
+    record_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_rollup_user_type_date_category
+        UNIQUE (user_id, record_type, record_date, category)
+);
+
+-- 2. 절약 기록 집계
+INSERT INTO record_daily_rollups (user_id, record_type, record_date, category, total_amount, record_count)
+SELECT user_id, 'SAVING', DATE(created_at), COALESCE(category, ''), SUM(amount), COUNT(*)
+FROM saving_records
+WHERE user_id IS NOT NULL
+GROUP BY user_id, DATE(created_at), COALESCE(category, '');
+
+-- 3. 소비 기록 집계
+INSERT INTO record_daily_rollups (user_id, record_type, record_date, category, total_amount, record_count)
+SELECT user_id, 'EXPENSE', DATE(created_at), COALESCE(category, ''), SUM(amount), COUNT(*)
+FROM expense_records
+WHERE user_id IS NOT NULL
+GROUP BY user_id, DATE(created_at), COALESCE(category, '');
@@ -0,0 +1,5 @@
+-- V4: 기간 조회용 (user_id, created_at) 복합 인덱스 추가
+
+CREATE INDEX idx_saving_records_user_created ON saving_records (user_id, created_at);
+
+CREATE INDEX idx_expense_records_user_created ON expense_records (user_id, created_at);
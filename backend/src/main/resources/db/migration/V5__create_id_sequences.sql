@@ -0,0 +1,19 @@
+-- V5: 기록 ID 를 테이블 기반 pooled 생성기로 발급 (IDENTITY 는 Hibernate 배치 INSERT 를 비활성화)
+-- 배포 전에 실행해야 하며, 생성기 시작 값을 현재 최대 ID 보다 크게 설정
+
+-- 1. ID 생성기 테이블 생성
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+-- 2. 절약 기록 ID 시작 값 (할당 크기 50 + 여유분)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'saving_records', COALESCE(MAX(id), 0) + 100 FROM saving_records
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- 3. 소비 기록 ID 시작 값
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'expense_records', COALESCE(MAX(id), 0) + 100 FROM expense_records
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
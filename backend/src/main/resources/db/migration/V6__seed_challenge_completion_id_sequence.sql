@@ -0,0 +1,6 @@
+-- V6: 챌린지 완료 기록 ID 도 테이블 기반 pooled-lo 생성기로 발급
+-- 배포 전에 실행해야 하며, 생성기 시작 값을 현재 최대 ID 보다 크게 설정
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'challenge_completions', COALESCE(MAX(id), 0) + 100 FROM challenge_completions
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,11 @@
+-- V7: 기록 등록 재시도 중복 방지용 Idempotency-Key 저장 테이블
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body TEXT,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key),
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+);
@@ -0,0 +1,26 @@
+-- V8: 챌린지 목록 테이블 (/api/challenges, 서버 측 자동 완료 조건)
+-- target_amount: AMOUNT 는 금액, COUNT 는 횟수, STREAK 는 연속 일수
+
+CREATE TABLE IF NOT EXISTS challenges (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    target_amount BIGINT NOT NULL,
+    duration INT NOT NULL,
+    experience_reward INT NOT NULL,
+    is_active BIT NOT NULL DEFAULT 1,
+    category VARCHAR(255),
+    condition_type VARCHAR(20) NOT NULL DEFAULT 'AMOUNT',
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+INSERT INTO challenges (title, description, target_amount, duration, experience_reward, category, condition_type, created_at)
+SELECT * FROM (
+    SELECT '오늘 커피 대신 절약' AS title, '음식 카테고리에서 하루 5,000원 절약하기' AS description, 5000 AS target_amount, 1 AS duration, 50 AS experience_reward, '음식' AS category, 'AMOUNT' AS condition_type, NOW(6) AS created_at
+    UNION ALL SELECT '택시 대신 대중교통', '교통 카테고리에서 일주일 20,000원 절약하기', 20000, 7, 100, '교통', 'AMOUNT', NOW(6)
+    UNION ALL SELECT '이번 달 10만원 절약', '한 달 동안 100,000원 절약하기', 100000, 30, 300, NULL, 'AMOUNT', NOW(6)
+    UNION ALL SELECT '하루 세 번 절약', '하루에 절약 기록 3번 남기기', 3, 1, 30, NULL, 'COUNT', NOW(6)
+    UNION ALL SELECT '7일 연속 절약', '7일 연속으로 절약 기록 남기기', 7, 7, 150, NULL, 'STREAK', NOW(6)
+) seed
+WHERE NOT EXISTS (SELECT 1 FROM challenges);
@@ -0,0 +1,5 @@
+-- V9: 사용자 시간대 (통계/챌린지 기간을 사용자 현지 날짜 기준으로 계산, NULL 이면 DEFAULT_TIME_ZONE)
+-- 저장 시각(created_at 등)은 UTC 기준, 배포 후 RecordRollupService.rebuildAll 로 일별 집계를 현지 날짜로 다시 생성
+-- (현지 날짜는 애플리케이션에서 계산하므로 MySQL 시간대 테이블 불필요)
+
+ALTER TABLE users ADD COLUMN time_zone VARCHAR(64) NULL;
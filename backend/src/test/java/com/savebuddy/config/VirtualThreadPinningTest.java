@@ -0,0 +1,74 @@
+package com.savebuddy.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션 코드에 synchronized 메서드/블록이 없는지 바이트코드로 확인 (대신 ReentrantLock 사용)
+ * 현재 런타임은 Java 17 이라 가상 스레드를 쓰지 않지만, Java 21 로 올린 뒤 spring.threads.virtual 을 켜도
+ * DB 대기 중 캐리어 스레드가 고정(pinning)되지 않도록 미리 막아 둠
+ */
+class VirtualThreadPinningTest {
+
+    @Test
+    void applicationCodeHasNoMonitorLocks() throws IOException {
+        Resource[] classes = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:com/savebuddy/**/*.class");
+        assertThat(classes).isNotEmpty();
+
+        List<String> violations = new ArrayList<>();
+        for (Resource resource : classes) {
+            try (InputStream in = resource.getInputStream()) {
+                new ClassReader(in).accept(new MonitorFinder(violations), ClassReader.SKIP_DEBUG);
+            }
+        }
+
+        assertThat(violations).isEmpty();
+    }
+
+    private static class MonitorFinder extends ClassVisitor {
+
+        private final List<String> violations;
+
+        private String className;
+
+        MonitorFinder(List<String> violations) {
+            super(SpringAsmInfo.ASM_VERSION);
+            this.violations = violations;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            className = name.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                violations.add(className + "." + name + " (synchronized 메서드)");
+            }
+
+            return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        violations.add(className + "." + name + " (synchronized 블록)");
+                    }
+                }
+            };
+        }
+    }
+}
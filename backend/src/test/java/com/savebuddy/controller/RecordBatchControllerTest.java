@@ -0,0 +1,135 @@
+package com.savebuddy.controller;
+
+import com.savebuddy.entity.ExpenseRecord;
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.entity.User;
+import com.savebuddy.security.AuthUser;
+import com.savebuddy.service.ExpenseRecordService;
+import com.savebuddy.service.SavingRecordService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 절약/소비 일괄 등록 API: 건수 제한, 잘못된 기록의 400 응답, 엔티티 대신 RecordView 응답 확인
+ */
+class RecordBatchControllerTest {
+
+    private static final Authentication AUTH = new UsernamePasswordAuthenticationToken(
+            new AuthUser(7L, "batch@savebuddy.com", "USER"), null, List.of());
+
+    private static final String ITEM = "{\"itemName\":\"커피\",\"amount\":4500,\"category\":\"음식\"}";
+
+    private SavingRecordService savingRecordService;
+
+    private ExpenseRecordService expenseRecordService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        savingRecordService = mock(SavingRecordService.class);
+        expenseRecordService = mock(ExpenseRecordService.class);
+
+        SavingRecordController savingRecordController = new SavingRecordController();
+        ReflectionTestUtils.setField(savingRecordController, "savingRecordService", savingRecordService);
+        ExpenseRecordController expenseRecordController = new ExpenseRecordController();
+        ReflectionTestUtils.setField(expenseRecordController, "expenseRecordService", expenseRecordService);
+
+        // 문자열 응답은 애플리케이션과 같이 UTF-8 (Spring Boot 기본 설정)
+        mockMvc = MockMvcBuilders.standaloneSetup(savingRecordController, expenseRecordController)
+                .setMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8),
+                        new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()))
+                .build();
+    }
+
+    @Test
+    void batchSizeIsLimited() throws Exception {
+        for (String path : List.of("/api/savings/records", "/api/expense/records")) {
+            mockMvc.perform(post(path).principal(AUTH).contentType(MediaType.APPLICATION_JSON)
+                            .content(batch(101)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Batch size must be between 1 and 100"));
+            mockMvc.perform(post(path).principal(AUTH).contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verifyNoInteractions(savingRecordService, expenseRecordService);
+    }
+
+    @Test
+    void invalidEntryRejectsBatchWithBadRequest() throws Exception {
+        when(savingRecordService.createSavingRecords(eq(7L), anyList()))
+                .thenThrow(new IllegalArgumentException("2번째 기록의 금액이 올바르지 않습니다."));
+
+        mockMvc.perform(post("/api/savings/records").principal(AUTH).contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(100)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("2번째 기록의 금액이 올바르지 않습니다."));
+    }
+
+    @Test
+    void createdRecordsAreReturnedWithoutEntityAssociations() throws Exception {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("batch@savebuddy.com");
+
+        SavingRecord saving = new SavingRecord();
+        saving.setId(1L);
+        saving.setAmount(4500L);
+        saving.setItemName("커피");
+        saving.setCategory("음식");
+        saving.setCreatedAt(LocalDateTime.of(2024, 5, 1, 3, 0));
+        saving.setUser(user);
+        when(savingRecordService.createSavingRecords(eq(7L), anyList())).thenReturn(List.of(saving));
+
+        ExpenseRecord expense = new ExpenseRecord();
+        expense.setId(2L);
+        expense.setAmount(12000L);
+        expense.setItemName("택시");
+        expense.setUser(user);
+        when(expenseRecordService.createExpenseRecord(eq(7L), any(), any(), any(), any())).thenReturn(expense);
+
+        mockMvc.perform(post("/api/savings/records").principal(AUTH).contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].itemName").value("커피"))
+                .andExpect(jsonPath("$[0].user").doesNotExist());
+
+        mockMvc.perform(post("/api/expense/record").principal(AUTH).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"택시\",\"amount\":12000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.user").doesNotExist());
+    }
+
+    private String batch(int size) {
+        return "[" + String.join(",", Collections.nCopies(size, ITEM)) + "]";
+    }
+}
@@ -0,0 +1,106 @@
+package com.savebuddy.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 조회가 (user_id, created_at) 인덱스 범위 탐색을 사용하는지 H2(MySQL 모드) 실행 계획으로 확인
+ */
+class RecordRangeQueryPlanTest {
+
+    private static final String MIGRATION = "db/migration/V4__add_user_created_at_indexes.sql";
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:plan;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"saving_records", "expense_records"}) {
+                statement.execute("CREATE TABLE " + table + " (" +
+                        "id BIGINT AUTO_INCREMENT PRIMARY KEY, amount BIGINT NOT NULL, category VARCHAR(255), " +
+                        "created_at TIMESTAMP(6), item_name VARCHAR(255), memo VARCHAR(255), user_id BIGINT)");
+            }
+            for (String sql : readMigration().split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void savingRangeQueryUsesUserCreatedAtIndex() throws SQLException {
+        String plan = explain("saving_records");
+
+        String indexCondition = indexCondition(plan);
+        assertThat(indexCondition).containsIgnoringCase("idx_saving_records_user_created");
+        assertThat(indexCondition).contains("USER_ID =", "CREATED_AT >=", "CREATED_AT <");
+        // 정렬: created_at(4번째 컬럼), id(1번째 컬럼) 내림차순
+        assertThat(plan).contains("ORDER BY 4 DESC, 1 DESC");
+    }
+
+    @Test
+    void expenseRangeQueryUsesUserCreatedAtIndex() throws SQLException {
+        String plan = explain("expense_records");
+
+        String indexCondition = indexCondition(plan);
+        assertThat(indexCondition).containsIgnoringCase("idx_expense_records_user_created");
+        assertThat(indexCondition).contains("USER_ID =", "CREATED_AT >=", "CREATED_AT <");
+        // 정렬: created_at(4번째 컬럼), id(1번째 컬럼) 내림차순
+        assertThat(plan).contains("ORDER BY 4 DESC, 1 DESC");
+    }
+
+    // findByUserIdAndCreatedAtRange / streamByUserIdAndCreatedAtRange 가 생성하는 SQL 과 같은 형태
+    // (RecordView 프로젝션 컬럼, createdAt·id 내림차순)
+    private String explain(String table) throws SQLException {
+        String sql = "EXPLAIN SELECT r.id, r.amount, r.category, r.created_at, r.item_name, r.memo FROM " + table + " r" +
+                " WHERE r.user_id = 1 AND r.created_at >= TIMESTAMP '2025-01-01 00:00:00'" +
+                " AND r.created_at < TIMESTAMP '2025-02-01 00:00:00' ORDER BY r.created_at DESC, r.id DESC";
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    // 실행 계획의 /* 인덱스: 조건 */ 부분 (테이블 전체 스캔이면 tableScan)
+    private String indexCondition(String plan) {
+        int start = plan.indexOf("/*");
+        int end = plan.indexOf("*/", start);
+        assertThat(start).as(plan).isNotNegative();
+        return plan.substring(start, end);
+    }
+
+    private String readMigration() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(MIGRATION)) {
+            assertThat(in).as(MIGRATION).isNotNull();
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return script.replaceAll("(?m)^--.*$", "");
+        }
+    }
+}
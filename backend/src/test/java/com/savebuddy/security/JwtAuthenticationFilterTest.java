@@ -0,0 +1,159 @@
+package com.savebuddy.security;
+
+import com.savebuddy.dto.UserIdentity;
+import com.savebuddy.entity.User;
+import com.savebuddy.service.JwtService;
+import com.savebuddy.service.OAuth2UserService;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bearer 토큰 인증: 검증 1회 후 캐시 재사용, uid 없는 이전 토큰, exp 없는 토큰 처리 확인
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "testSecretKey12345678901234567890123456789012345678";
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private OAuth2UserService oAuth2UserService;
+
+    private JwtService jwtService;
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = spy(new VerifiedTokenCache(true, 100, 100, new SimpleMeterRegistry()));
+        oAuth2UserService = mock(OAuth2UserService.class);
+
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", jwtService);
+        ReflectionTestUtils.setField(filter, "oAuth2UserService", oAuth2UserService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tokenIsParsedOnceAndReusedAcrossRequests() throws Exception {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("jwt@savebuddy.com");
+        user.setRole(User.Role.ADMIN);
+        String token = jwtService.generateToken(user);
+
+        for (int i = 0; i < 3; i++) {
+            Authentication authentication = authenticate(token);
+            assertThat(authentication.getPrincipal()).isEqualTo(new AuthUser(7L, "jwt@savebuddy.com", "ADMIN"));
+            assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        }
+
+        // 첫 요청에서만 파싱 후 캐시에 저장, 사용자 조회 없음
+        verify(verifiedTokenCache, times(1)).put(anyString(), any());
+        verifyNoInteractions(oAuth2UserService);
+    }
+
+    @Test
+    void legacyTokenWithoutUidIsResolvedByEmail() throws Exception {
+        String token = sign(Jwts.builder()
+                .setSubject("legacy@savebuddy.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000)));
+        when(oAuth2UserService.findIdentityByEmail("legacy@savebuddy.com"))
+                .thenReturn(Optional.of(new UserIdentity(9L, "legacy@savebuddy.com", "legacy", null, null)));
+
+        Authentication authentication = authenticate(token);
+
+        assertThat(authentication.getPrincipal()).isEqualTo(new AuthUser(9L, "legacy@savebuddy.com", "USER"));
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void legacyTokenForUnknownUserIsNotAuthenticated() throws Exception {
+        String token = sign(Jwts.builder()
+                .setSubject("gone@savebuddy.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000)));
+        when(oAuth2UserService.findIdentityByEmail("gone@savebuddy.com")).thenReturn(Optional.empty());
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void tokenWithoutExpIsRejected() throws Exception {
+        String token = sign(Jwts.builder()
+                .setSubject("noexp@savebuddy.com")
+                .claim(JwtService.CLAIM_USER_ID, 11L)
+                .claim(JwtService.CLAIM_ROLE, "USER"));
+
+        assertThat(jwtService.verifyToken(token)).isEmpty();
+        assertThat(authenticate(token)).isNull();
+        jwtService.revokeToken(token);
+
+        verify(verifiedTokenCache, never()).put(anyString(), any());
+        verify(verifiedTokenCache, never()).revoke(anyString(), any());
+    }
+
+    @Test
+    void expiredOrForgedTokenIsRejected() throws Exception {
+        String expired = sign(Jwts.builder()
+                .setSubject("old@savebuddy.com")
+                .claim(JwtService.CLAIM_USER_ID, 12L)
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000)));
+        String forged = Jwts.builder()
+                .setSubject("forged@savebuddy.com")
+                .claim(JwtService.CLAIM_USER_ID, 13L)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("otherSecretKey1234567890123456789012345678901234567".getBytes()),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(authenticate(expired)).isNull();
+        assertThat(authenticate(forged)).isNull();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/savings/latest");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String sign(JwtBuilder builder) {
+        return builder.signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256).compact();
+    }
+}
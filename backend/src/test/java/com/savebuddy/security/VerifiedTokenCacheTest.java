@@ -0,0 +1,93 @@
+package com.savebuddy.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 캐시 hit, 토큰 exp 도달 시 만료, 폐기 목록 확인
+ */
+class VerifiedTokenCacheTest {
+
+    private static final AuthUser USER = new AuthUser(7L, "jwt@savebuddy.com", "USER");
+
+    @Test
+    void cachedTokenIsReturnedUntilExp() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true, 100);
+        String hash = VerifiedTokenCache.hash("token");
+        VerifiedToken token = new VerifiedToken(USER, Instant.now().plusMillis(300));
+
+        assertThat(cache.get(hash)).isEmpty();
+        cache.put(hash, token);
+        assertThat(cache.get(hash)).contains(token);
+
+        Thread.sleep(400);
+        assertThat(cache.get(hash)).isEmpty();
+
+        // 이미 만료된 토큰은 저장되어도 반환하지 않음
+        cache.put(hash, new VerifiedToken(USER, Instant.now().minusSeconds(1)));
+        assertThat(cache.get(hash)).isEmpty();
+    }
+
+    @Test
+    void disabledCacheNeverReturnsTokens() {
+        VerifiedTokenCache cache = cache(false, 100);
+        String hash = VerifiedTokenCache.hash("token");
+
+        cache.put(hash, new VerifiedToken(USER, Instant.now().plusSeconds(60)));
+
+        assertThat(cache.get(hash)).isEmpty();
+    }
+
+    @Test
+    void revokedTokenIsDroppedFromCacheUntilExp() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true, 100);
+        String hash = VerifiedTokenCache.hash("token");
+        Instant exp = Instant.now().plusMillis(300);
+        cache.put(hash, new VerifiedToken(USER, exp));
+
+        cache.revoke(hash, exp);
+
+        assertThat(cache.isRevoked(hash)).isTrue();
+        assertThat(cache.get(hash)).isEmpty();
+        assertThat(cache.isRevoked(VerifiedTokenCache.hash("other"))).isFalse();
+
+        // exp 이후에는 토큰 자체가 만료되므로 폐기 목록에서도 제거
+        Thread.sleep(400);
+        assertThat(cache.isRevoked(hash)).isFalse();
+    }
+
+    @Test
+    void revokedListIsBounded() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10, new SimpleMeterRegistry());
+        Instant exp = Instant.now().plusSeconds(60);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.revoke(VerifiedTokenCache.hash("token-" + i), exp);
+        }
+
+        // 크기 초과분 제거는 비동기로 처리되므로 잠시 대기
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (revokedCount(cache) > 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(revokedCount(cache)).isLessThanOrEqualTo(10);
+    }
+
+    private long revokedCount(VerifiedTokenCache cache) {
+        long revoked = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (cache.isRevoked(VerifiedTokenCache.hash("token-" + i))) {
+                revoked++;
+            }
+        }
+        return revoked;
+    }
+
+    private VerifiedTokenCache cache(boolean enabled, long maxSize) {
+        return new VerifiedTokenCache(enabled, maxSize, maxSize, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,104 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.Challenge;
+import com.savebuddy.repository.ChallengeRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DB 의 챌린지 변경이 갱신 시 스냅샷/ETag 에 반영되고, 잘못된 챌린지는 제외되는지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ChallengeCatalogService.class, ChallengeRuleEngine.class, ChallengeCompletionService.class,
+        RecordRollupService.class, SimpleMeterRegistry.class, PeriodWindow.class})
+class ChallengeCatalogServiceTest {
+
+    @Autowired
+    private ChallengeCatalogService challengeCatalogService;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @MockitoSpyBean
+    private ChallengeRuleEngine challengeRuleEngine;
+
+    @Test
+    void changedChallengesReplaceSnapshotOnRefresh() {
+        ChallengeCatalogService.Snapshot before = challengeCatalogService.snapshot();
+
+        Long coffeeId = challengeRepository.save(challenge("커피 절약", 1, true)).getId();
+        challengeRepository.save(challenge("보류된 챌린지", 7, false));
+        assertThat(challengeCatalogService.snapshot()).isSameAs(before);
+        challengeCatalogService.refresh();
+
+        ChallengeCatalogService.Snapshot after = challengeCatalogService.snapshot();
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(after.challenges()).extracting("title").containsExactly("커피 절약");
+        assertThat(after.byId()).containsOnlyKeys(coffeeId);
+        assertThat(after.byDuration().get(1)).hasSize(1);
+
+        // 내용이 같으면 스냅샷(ETag) 유지
+        challengeCatalogService.refresh();
+        assertThat(challengeCatalogService.snapshot()).isSameAs(after);
+    }
+
+    @Test
+    void invalidChallengeIsSkippedWithoutBlockingRefresh() {
+        Long validId = challengeRepository.save(challenge("배달 줄이기", 7, true)).getId();
+        Challenge invalid = challenge("목표 없음", 1, true);
+        invalid.setTargetAmount(0L);
+        Long invalidId = challengeRepository.save(invalid).getId();
+
+        challengeCatalogService.refresh();
+
+        ChallengeCatalogService.Snapshot snapshot = challengeCatalogService.snapshot();
+        assertThat(snapshot.byId()).containsKey(validId).doesNotContainKey(invalidId);
+        assertThat(appliedRuleIds()).contains(String.valueOf(validId)).doesNotContain(String.valueOf(invalidId));
+
+        // 잘못된 행을 고치면 다음 갱신에서 목록과 달성 조건에 함께 반영
+        invalid.setTargetAmount(3000L);
+        challengeRepository.save(invalid);
+        challengeCatalogService.refresh();
+
+        assertThat(challengeCatalogService.snapshot().byId()).containsKeys(validId, invalidId);
+        assertThat(appliedRuleIds()).contains(String.valueOf(validId), String.valueOf(invalidId));
+
+        // 다른 테스트의 목록 비교에 영향이 없도록 정리
+        challengeRepository.deleteAllById(List.of(validId, invalidId));
+        challengeCatalogService.refresh();
+    }
+
+    // 마지막으로 엔진에 적용된 달성 조건의 챌린지 id
+    @SuppressWarnings("unchecked")
+    private List<String> appliedRuleIds() {
+        ArgumentCaptor<Collection<ChallengeRule>> rules = ArgumentCaptor.forClass(Collection.class);
+        verify(challengeRuleEngine, atLeastOnce()).replaceRules(rules.capture());
+        return rules.getValue().stream().map(ChallengeRule::challengeId).toList();
+    }
+
+    private Challenge challenge(String title, int duration, boolean active) {
+        Challenge challenge = new Challenge();
+        challenge.setTitle(title);
+        challenge.setTargetAmount(5000L);
+        challenge.setDuration(duration);
+        challenge.setExperienceReward(50);
+        challenge.setIsActive(active);
+        return challenge;
+    }
+}
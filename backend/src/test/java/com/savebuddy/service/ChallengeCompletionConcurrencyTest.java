@@ -0,0 +1,128 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.ChallengeCompletionRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 챌린지 동시 완료 요청이 잠금 없이 기록 1건으로 수렴하고, 주간/월간은 기간당 1건인지,
+ * 중복 키 외의 오류는 예외로 드러나는지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@Import({ChallengeCompletionService.class, PeriodWindow.class})
+class ChallengeCompletionConcurrencyTest {
+
+    private static final int REQUESTS = 40;
+
+    // 커넥션 풀(기본 10)보다 적게
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ChallengeCompletionService challengeCompletionService;
+
+    @Autowired
+    private ChallengeCompletionRepository challengeCompletionRepository;
+
+    @Autowired
+    private PeriodWindow periodWindow;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentCompletionsConvergeOnOneRecord() throws Exception {
+        User savedUser = userFixtures.create("completion");
+
+        List<Callable<ChallengeCompletion>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String challengeId = i % 2 == 0 ? "no-coffee" : "no-taxi";
+            tasks.add(() -> challengeCompletionService.completeChallenge(
+                    savedUser, challengeId, "챌린지", ChallengePeriod.DAILY, 1000));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<ChallengeCompletion> future : executor.invokeAll(tasks)) {
+                ids.add(future.get().getId());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(challengeCompletionService.getTotalCompletionCount(savedUser)).isEqualTo(2);
+        assertThat(ids.stream().distinct().count()).isEqualTo(2);
+        assertThat(challengeCompletionService.getTotalRewards(savedUser)).isEqualTo(2000L);
+    }
+
+    @Test
+    void weeklyCompletionIsUniqueWithinPeriodAcrossDays() {
+        User savedUser = userFixtures.create("weekly");
+        LocalDate weekStart = PeriodWindow.startOf(ChallengePeriod.WEEKLY, periodWindow.today(savedUser.getId()));
+
+        // 같은 주의 다른 날 완료 시도는 유니크 키 (기간 시작일) 에서 막혀 기존 기록 유지
+        insert(savedUser, 2_000_001L, weekStart, weekStart);
+        insert(savedUser, 2_000_002L, weekStart.plusDays(3), weekStart);
+        assertThat(storedId(savedUser, weekStart)).isEqualTo(2_000_001L);
+        // 다음 주는 별도 기록
+        insert(savedUser, 2_000_003L, weekStart.plusDays(7), weekStart.plusDays(7));
+        assertThat(storedId(savedUser, weekStart.plusDays(7))).isEqualTo(2_000_003L);
+
+        ChallengeCompletion completion = challengeCompletionService.completeChallenge(
+                savedUser, "weekly-save", "챌린지", ChallengePeriod.WEEKLY, 1000);
+
+        assertThat(completion.getId()).isEqualTo(2_000_001L);
+        assertThat(completion.getPeriodStart()).isEqualTo(weekStart);
+        assertThat(completion.getCompletedDate()).isEqualTo(weekStart);
+        assertThat(challengeCompletionService.getTotalCompletionCount(savedUser)).isEqualTo(2);
+    }
+
+    @Test
+    void invalidCompletionFailsInsteadOfLookingCompleted() {
+        User savedUser = userFixtures.create("invalid");
+
+        // 중복 키가 아닌 오류 (길이 초과, NOT NULL) 는 "이미 완료" 로 숨지 않고 예외
+        assertThatThrownBy(() -> challengeCompletionService.completeChallenge(
+                savedUser, "long-title", "챌".repeat(300), ChallengePeriod.DAILY, 1000))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> challengeCompletionService.completeChallenge(
+                savedUser, "no-reward", "챌린지", ChallengePeriod.DAILY, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(challengeCompletionService.getTotalCompletionCount(savedUser)).isZero();
+    }
+
+    private void insert(User user, Long id, LocalDate completedDate, LocalDate periodStart) {
+        transactionTemplate.executeWithoutResult(status -> challengeCompletionRepository.insertIfAbsent(id,
+                user.getId(), "weekly-save", "챌린지", ChallengePeriod.WEEKLY.name(), 1000,
+                LocalDateTime.now(), completedDate, periodStart));
+    }
+
+    private Long storedId(User user, LocalDate periodStart) {
+        return challengeCompletionRepository.findByUserAndChallengeIdAndPeriodAndPeriodStart(
+                user, "weekly-save", ChallengePeriod.WEEKLY, periodStart).orElseThrow().getId();
+    }
+}
@@ -0,0 +1,117 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.ChallengeCompletionRepository;
+import com.savebuddy.service.ChallengeRule.Condition;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 절약 기록 커밋 시 서버에서 챌린지가 자동 완료되는지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@Import({ChallengeRuleEngine.class, ChallengeCompletionService.class, SavingRecordService.class,
+        RecordRollupService.class, SimpleMeterRegistry.class, PeriodWindow.class})
+class ChallengeRuleEngineTest {
+
+    @Autowired
+    private ChallengeRuleEngine challengeRuleEngine;
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private ChallengeCompletionRepository challengeCompletionRepository;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Test
+    void recordsCompleteChallengesWhenThresholdsAreCrossed() {
+        challengeRuleEngine.replaceRules(List.of(
+                new ChallengeRule("food-5000", "오늘 음식 5000원 절약", ChallengePeriod.DAILY,
+                        Condition.AMOUNT, "음식", 5000, 500),
+                new ChallengeRule("three-times", "오늘 3번 절약", ChallengePeriod.DAILY,
+                        Condition.COUNT, null, 3, 300),
+                new ChallengeRule("streak-2", "2일 연속 절약", ChallengePeriod.WEEKLY,
+                        Condition.STREAK, null, 2, 200),
+                new ChallengeRule("month-100000", "이번달 10만원 절약", ChallengePeriod.MONTHLY,
+                        Condition.AMOUNT, null, 100000, 1000)));
+
+        User savedUser = userFixtures.create("rules");
+        Long userId = savedUser.getId();
+
+        // 어제 기록 (처음 평가 시 집계에서 적재)
+        recordRollupService.apply(userId, RecordType.SAVING, LocalDate.now().minusDays(1).atTime(12, 0), "음식", 1000L, 1);
+
+        savingRecordService.createSavingRecord(userId, "커피", 3000L, "음식", null);
+        assertThat(completedIds(savedUser)).containsExactly("streak-2");
+
+        savingRecordService.createSavingRecord(userId, "도시락", 2500L, "음식", null);
+        assertThat(completedIds(savedUser)).containsExactlyInAnyOrder("streak-2", "food-5000");
+
+        savingRecordService.createSavingRecord(userId, "버스", 100L, "교통", null);
+        savingRecordService.createSavingRecord(userId, "버스", 100L, "교통", null);
+        assertThat(completedIds(savedUser)).containsExactlyInAnyOrder("streak-2", "food-5000", "three-times");
+    }
+
+    @Test
+    void failedCompletionDoesNotFailRecordOrOtherCompletions() {
+        // 완료 저장이 실패하는 챌린지 (id 가 컬럼 길이 초과)
+        String brokenId = "x".repeat(300);
+        challengeRuleEngine.replaceRules(List.of(
+                new ChallengeRule(brokenId, "저장 실패", ChallengePeriod.DAILY, Condition.COUNT, null, 1, 100),
+                new ChallengeRule("first-save", "오늘 첫 절약", ChallengePeriod.DAILY, Condition.COUNT, null, 1, 100)));
+        User savedUser = userFixtures.create("broken");
+
+        SavingRecord record = savingRecordService.createSavingRecord(savedUser.getId(), "커피", 3000L, "음식", null);
+
+        assertThat(record.getId()).isNotNull();
+        assertThat(completedIds(savedUser)).containsExactly("first-save");
+    }
+
+    @Test
+    void doubleCountedRecordDoesNotCompleteChallengeEarly() {
+        challengeRuleEngine.replaceRules(List.of(
+                new ChallengeRule("food-5000", "오늘 음식 5000원 절약", ChallengePeriod.DAILY,
+                        Condition.AMOUNT, "음식", 5000, 500)));
+        User savedUser = userFixtures.create("double");
+        Long userId = savedUser.getId();
+        savingRecordService.createSavingRecord(userId, "커피", 3000L, "음식", null);
+
+        // 누적 값 적재 때 이미 포함된 기록이 이벤트로 한 번 더 들어온 경우 (집계에는 없는 2500원)
+        SavingRecord counted = new SavingRecord();
+        counted.setAmount(2500L);
+        counted.setCategory("음식");
+        counted.setCreatedAt(LocalDateTime.now());
+        challengeRuleEngine.onSavingRecord(SavingRecordEvent.created(userId, List.of(counted)));
+        assertThat(completedIds(savedUser)).isEmpty();
+
+        // 누적 값은 다시 적재되어 실제 합계(3000 + 2000)로 완료
+        savingRecordService.createSavingRecord(userId, "도시락", 2000L, "음식", null);
+        assertThat(completedIds(savedUser)).containsExactly("food-5000");
+    }
+
+    private List<String> completedIds(User user) {
+        return challengeCompletionRepository.findByUserOrderByCompletedAtDesc(user).stream()
+                .map(ChallengeCompletion::getChallengeId)
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.ChallengeStatusDto;
+import com.savebuddy.entity.Challenge;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.ChallengeCompletionRepository;
+import com.savebuddy.repository.ChallengeRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * 챌린지 완료 상태 일괄 조회와 기간 경계 처리, 적재 중 완료 커밋 시 캐시 무효화 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ChallengeStatusService.class, ChallengeCatalogService.class, ChallengeRuleEngine.class,
+        ChallengeCompletionService.class, RecordRollupService.class, SimpleMeterRegistry.class, PeriodWindow.class})
+class ChallengeStatusServiceTest {
+
+    @Autowired
+    private ChallengeStatusService challengeStatusService;
+
+    @Autowired
+    private ChallengeCatalogService challengeCatalogService;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private ChallengeCompletionService challengeCompletionService;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @MockitoSpyBean
+    private ChallengeCompletionRepository challengeCompletionRepository;
+
+    @Test
+    void statusesFollowCompletionsAndPeriodBoundaries() {
+        String daily = challengeRepository.save(challenge("오늘 절약", 1)).getId().toString();
+        String weekly = challengeRepository.save(challenge("이번주 절약", 7)).getId().toString();
+        String monthly = challengeRepository.save(challenge("이번달 절약", 30)).getId().toString();
+        challengeCatalogService.refresh();
+
+        User savedUser = userFixtures.create("status");
+
+        challengeCompletionService.completeChallenge(savedUser, daily, "오늘 절약", ChallengePeriod.DAILY, 10);
+        challengeCompletionService.completeChallenge(savedUser, monthly, "이번달 절약", ChallengePeriod.MONTHLY, 10);
+
+        LocalDate today = LocalDate.now();
+        assertThat(completed(savedUser, today)).containsExactly(daily, monthly);
+
+        // 완료 저장 후 캐시 무효화
+        challengeCompletionService.completeChallenge(savedUser, weekly, "이번주 절약", ChallengePeriod.WEEKLY, 10);
+        assertThat(completed(savedUser, today)).containsExactly(daily, weekly, monthly);
+
+        // 다음 날: 일간은 초기화, 주간/월간은 같은 구간일 때만 유지
+        LocalDate tomorrow = today.plusDays(1);
+        List<String> expected = new ArrayList<>();
+        if (PeriodWindow.startOf(ChallengePeriod.WEEKLY, tomorrow)
+                .equals(PeriodWindow.startOf(ChallengePeriod.WEEKLY, today))) {
+            expected.add(weekly);
+        }
+        if (tomorrow.getMonth() == today.getMonth()) {
+            expected.add(monthly);
+        }
+        assertThat(completed(savedUser, tomorrow)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void completionCommittedDuringLoadIsNotHiddenByCache() {
+        String daily = challengeRepository.save(challenge("커피 안 마시기", 1)).getId().toString();
+        challengeCatalogService.refresh();
+        User savedUser = userFixtures.create("race");
+        LocalDate today = LocalDate.now();
+
+        // 첫 적재는 완료 기록이 없던 시점에 읽고 (빈 결과), 캐시에 넣기 전에 다른 요청의 완료가 커밋되고 무효화됨
+        AtomicBoolean completedDuringLoad = new AtomicBoolean();
+        Answer<?> repository = mockingDetails(challengeCompletionRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            if (completedDuringLoad.compareAndSet(false, true)) {
+                challengeCompletionService.completeChallenge(savedUser, daily, "커피 안 마시기", ChallengePeriod.DAILY, 10);
+                return List.of();
+            }
+            return repository.answer(invocation);
+        }).when(challengeCompletionRepository).findCompletedSince(eq(savedUser.getId()), any());
+
+        // 적재한 요청은 커밋 전 상태를 받지만, 그 결과가 캐시에 남지 않아 다음 조회부터 완료로 보임
+        assertThat(completed(savedUser, today)).doesNotContain(daily);
+        assertThat(completedDuringLoad).isTrue();
+        assertThat(completed(savedUser, today)).contains(daily);
+    }
+
+    private List<String> completed(User user, LocalDate today) {
+        return challengeStatusService.getStatuses(user.getId(), today).stream()
+                .filter(ChallengeStatusDto::isCompleted)
+                .map(ChallengeStatusDto::challengeId)
+                .toList();
+    }
+
+    private Challenge challenge(String title, int duration) {
+        Challenge challenge = new Challenge();
+        challenge.setTitle(title);
+        challenge.setTargetAmount(1000L);
+        challenge.setDuration(duration);
+        challenge.setExperienceReward(10);
+        return challenge;
+    }
+}
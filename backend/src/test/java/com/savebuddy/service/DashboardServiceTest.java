@@ -0,0 +1,103 @@
+package com.savebuddy.service;
+
+import com.savebuddy.config.AsyncConfig;
+import com.savebuddy.dto.DashboardDto;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 집계가 개별 조회(today, month, week, category, latest)와 같은 값을 주는지 확인
+ */
+@SaveBuddyJpaTest
+@TestPropertySource(properties = "DASHBOARD_BRANCH_TIMEOUT_MS=10000")
+@Import({DashboardService.class, SavingRecordService.class, ExpenseRecordService.class, RecordRollupService.class,
+        AsyncConfig.class, PeriodWindow.class})
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private ExpenseRecordService expenseRecordService;
+
+    @Autowired
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Test
+    void dashboardMatchesIndividualQueries() {
+        Long userId = userFixtures.createId("dashboard");
+
+        for (int i = 0; i < 5; i++) {
+            savingRecordService.createSavingRecord(userId, "커피", 1000L * (i + 1), i % 2 == 0 ? "음식" : null, null);
+            expenseRecordService.createExpenseRecord(userId, "택시", 700L, "교통", null);
+        }
+        // 오늘 이전 기록은 집계만 추가 (최근 7일, 이번달, 그 이전 구간)
+        LocalDate today = LocalDate.now();
+        for (int daysAgo : new int[]{1, 3, 6, 10, 40, 400}) {
+            recordRollupService.apply(userId, RecordType.SAVING, today.minusDays(daysAgo).atTime(12, 0), "음식", 500L, 1);
+            recordRollupService.apply(userId, RecordType.EXPENSE, today.minusDays(daysAgo).atTime(12, 0), "쇼핑", 300L, 2);
+        }
+
+        DashboardDto dashboard = dashboardService.getDashboard(userId).join();
+
+        assertThat(dashboard.isPartial()).isFalse();
+        assertThat(dashboard.getUser().getId()).isEqualTo(userId);
+        assertThat(dashboard.getUser().getTotalSavings()).isEqualTo(15000L);
+
+        var savingToday = savingRecordService.todayRecords(userId, false);
+        var savingMonth = savingRecordService.monthRecords(userId, false);
+        assertThat(dashboard.getSavings().getToday().getTotalAmount()).isEqualTo(savingToday.getTotalAmount());
+        assertThat(dashboard.getSavings().getToday().getCount()).isEqualTo(savingToday.getCount());
+        assertThat(dashboard.getSavings().getMonth().getTotalAmount()).isEqualTo(savingMonth.getTotalAmount());
+        assertThat(dashboard.getSavings().getMonth().getCount()).isEqualTo(savingMonth.getCount());
+        assertThat(dashboard.getSavings().getWeek()).isEqualTo(savingRecordService.getWeekRecordsStatus(userId));
+        assertThat(sorted(dashboard.getSavings().getCategory()))
+                .isEqualTo(sorted(savingRecordService.getCategorySavingsStats(userId)));
+        assertThat(dashboard.getSavings().getLatest())
+                .isEqualTo(savingRecordService.getLatestRecords(userId, 3));
+
+        var expenseToday = expenseRecordService.todayRecords(userId, false);
+        var expenseMonth = expenseRecordService.monthRecords(userId, false);
+        assertThat(dashboard.getExpense().getToday().getTotalAmount()).isEqualTo(expenseToday.getTotalAmount());
+        assertThat(dashboard.getExpense().getMonth().getCount()).isEqualTo(expenseMonth.getCount());
+        assertThat(dashboard.getExpense().getWeek()).isEqualTo(expenseRecordService.getWeekRecordsStatus(userId));
+        assertThat(sorted(dashboard.getExpense().getCategory()))
+                .isEqualTo(sorted(expenseRecordService.getCategorySavingsStats(userId)));
+    }
+
+    @Test
+    void failedBranchIsMarkedAndOthersStillReturned() {
+        DashboardDto dashboard = dashboardService.getDashboard(-1L).join();
+
+        assertThat(dashboard.isPartial()).isTrue();
+        assertThat(dashboard.getFailedSections()).containsExactly("user");
+        assertThat(dashboard.getUser()).isNull();
+        assertThat(dashboard.getSavings().getToday().getTotalAmount()).isZero();
+        assertThat(dashboard.getExpense().getLatest()).isEmpty();
+    }
+
+    // [카테고리, 총액, 건수] 를 비교 가능한 문자열 목록으로
+    private List<String> sorted(List<Object[]> stats) {
+        return stats.stream()
+                .map(row -> row[0] + ":" + ((Number) row[1]).longValue() + ":" + ((Number) row[2]).longValue())
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.IdempotentResponse;
+import com.savebuddy.dto.SavingRecordDto;
+import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.repository.SavingRecordRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 Idempotency-Key 재요청이 기록/합계를 한 번만 반영하는지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({IdempotencyService.class, SavingRecordService.class, RecordRollupService.class, PeriodWindow.class})
+class IdempotencyServiceTest {
+
+    private static final String ENDPOINT = "POST /api/savings/record";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private SavingRecordRepository savingRecordRepository;
+
+    @Autowired
+    private OAuth2UserRepository oAuth2UserRepository;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Test
+    void retriedRequestIsAppliedOnce() {
+        Long userId = userFixtures.createId("retry");
+        SavingRecordDto request = request(3000L);
+        Supplier<Object> create = () -> savingRecordService.createSavingRecord(
+                userId, request.getItemName(), request.getAmount(), request.getCategory(), request.getMemo());
+
+        IdempotentResponse first = idempotencyService.execute(userId, "key-1", ENDPOINT, request, create);
+        IdempotentResponse retry = idempotencyService.execute(userId, "key-1", ENDPOINT, request, create);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.body()).isEqualTo(first.body());
+        assertThat(savingRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.unlimited())).hasSize(1);
+        assertThat(oAuth2UserRepository.findById(userId).orElseThrow().getTotalSavings()).isEqualTo(3000L);
+    }
+
+    @Test
+    void reusedKeyWithDifferentRequestIsRejected() {
+        Long userId = userFixtures.createId("reuse");
+        SavingRecordDto request = request(3000L);
+        idempotencyService.execute(userId, "key-1", ENDPOINT, request, () -> "ok");
+
+        assertThatThrownBy(() -> idempotencyService.execute(userId, "key-1", ENDPOINT, request(5000L), () -> "ok"))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+
+    private SavingRecordDto request(Long amount) {
+        return SavingRecordDto.builder()
+                .itemName("커피")
+                .amount(amount)
+                .category("음식")
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.UserIdentity;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 식별 정보 캐시가 사용자 정보 변경 후 이전 값을 반환하지 않는지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@Import({OAuth2UserService.class, UserIdentityCache.class, SimpleMeterRegistry.class,
+        RecordRollupService.class, PeriodWindow.class})
+class OAuth2UserServiceTest {
+
+    private static final String EMAIL = "identity@savebuddy.com";
+
+    @Autowired
+    private OAuth2UserService oAuth2UserService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void cachedIdentityDoesNotOutliveUserUpdate() {
+        // 없는 사용자는 캐시하지 않음 → 가입 직후 바로 조회됨
+        assertThat(oAuth2UserService.findIdentityByEmail(EMAIL)).isEmpty();
+        Long userId = oAuth2UserService.saveOrUpdateOAuth2User(EMAIL, "before", "a.png").getId();
+        assertThat(oAuth2UserService.getUserId(EMAIL)).isEqualTo(userId);
+        assertThat(nickname(EMAIL)).isEqualTo("before");
+
+        oAuth2UserService.saveOrUpdateOAuth2User(EMAIL, "after", "b.png");
+
+        UserIdentity identity = oAuth2UserService.findIdentityByEmail(EMAIL).orElseThrow();
+        assertThat(identity.nickname()).isEqualTo("after");
+        assertThat(identity.picture()).isEqualTo("b.png");
+    }
+
+    @Test
+    void identityCachedBeforeCommitIsDroppedAfterCommit() {
+        String email = "recache@savebuddy.com";
+        oAuth2UserService.saveOrUpdateOAuth2User(email, "before", "a.png");
+        assertThat(nickname(email)).isEqualTo("before");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            oAuth2UserService.saveOrUpdateOAuth2User(email, "after", "a.png");
+            // 커밋 전 다른 요청이 아직 커밋된 이전 값을 다시 캐시
+            assertThat(CompletableFuture.supplyAsync(() -> nickname(email)).join()).isEqualTo("before");
+        });
+
+        assertThat(nickname(email)).isEqualTo("after");
+    }
+
+    private String nickname(String email) {
+        return oAuth2UserService.findIdentityByEmail(email).orElseThrow().nickname();
+    }
+}
@@ -0,0 +1,98 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 달력 기준 구간 경계와 사용자 시간대 변환 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@TestPropertySource(properties = "DEFAULT_TIME_ZONE=Asia/Seoul")
+@Import(PeriodWindow.class)
+class PeriodWindowTest {
+
+    @Autowired
+    private PeriodWindow periodWindow;
+
+    @Autowired
+    private OAuth2UserRepository oAuth2UserRepository;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void windowsFollowCalendarBoundaries() {
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        // 2024-02-29 (목): 주간은 월요일부터, 월간은 윤년 2월 전체
+        LocalDate date = LocalDate.of(2024, 2, 29);
+
+        PeriodWindow.Window week = PeriodWindow.of(ChallengePeriod.WEEKLY, date, seoul);
+        assertThat(week.startDate()).isEqualTo(LocalDate.of(2024, 2, 26));
+        assertThat(week.endDate()).isEqualTo(LocalDate.of(2024, 3, 4));
+
+        PeriodWindow.Window month = PeriodWindow.of(ChallengePeriod.MONTHLY, date, seoul);
+        assertThat(month.startDate()).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(month.endDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(month.contains(date)).isTrue();
+        assertThat(month.contains(LocalDate.of(2024, 3, 1))).isFalse();
+
+        // 서울 2월 1일 00:00 = UTC 1월 31일 15:00
+        assertThat(month.start()).isEqualTo(LocalDateTime.of(2024, 1, 31, 15, 0));
+        assertThat(month.end()).isEqualTo(LocalDateTime.of(2024, 2, 29, 15, 0));
+    }
+
+    @Test
+    void storedTimesMapToUserLocalDate() {
+        User user = userFixtures.create("window");
+        Long userId = user.getId();
+
+        // 시간대 미설정: 기본 시간대 (UTC 15:30 = 서울 다음 날 00:30)
+        LocalDateTime storedAt = LocalDateTime.of(2024, 3, 31, 15, 30);
+        assertThat(periodWindow.zoneOf(userId)).isEqualTo(ZoneId.of("Asia/Seoul"));
+        assertThat(periodWindow.localDate(userId, storedAt)).isEqualTo(LocalDate.of(2024, 4, 1));
+
+        // 시간대 변경 후 무효화하면 새 시간대로 계산
+        user.setTimeZone("America/New_York");
+        oAuth2UserRepository.save(user);
+        periodWindow.invalidateZone(userId);
+        assertThat(periodWindow.localDate(userId, storedAt)).isEqualTo(LocalDate.of(2024, 3, 31));
+    }
+
+    @Test
+    void zoneCachedBeforeCommitIsDroppedAfterCommit() {
+        Long userId = userFixtures.createId("recache");
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        assertThat(periodWindow.zoneOf(userId)).isEqualTo(seoul);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE users SET time_zone = 'America/New_York' WHERE id = ?", userId);
+            periodWindow.invalidateZone(userId);
+            // 커밋 전 다른 요청이 아직 커밋된 이전 시간대를 다시 캐시
+            assertThat(CompletableFuture.supplyAsync(() -> periodWindow.zoneOf(userId)).join()).isEqualTo(seoul);
+        });
+
+        assertThat(periodWindow.zoneOf(userId)).isEqualTo(ZoneId.of("America/New_York"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.CursorPageDto;
+import com.savebuddy.dto.RecordCursor;
+import com.savebuddy.dto.RecordView;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 기반 기록 목록과 최근 N건 조회의 정렬(createdAt, id 내림차순), 마지막 페이지, 잘못된 커서 처리 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@Import({SavingRecordService.class, RecordRollupService.class, PeriodWindow.class})
+class RecordCursorPagingTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagesBreakCreatedAtTiesByIdAndStopAtLastPage() {
+        Long userId = userFixtures.createId("paging");
+        // 1000002~1000004 는 같은 시각 → id 내림차순
+        insert(1000001L, userId, AT.minusMinutes(1));
+        insert(1000002L, userId, AT);
+        insert(1000003L, userId, AT);
+        insert(1000004L, userId, AT);
+        insert(1000005L, userId, AT.plusMinutes(1));
+
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = null;
+        CursorPageDto<RecordView> page;
+        do {
+            page = savingRecordService.pageRecords(userId, cursor, 2);
+            pages.add(page.getData().stream().map(RecordView::id).toList());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        assertThat(pages).containsExactly(
+                List.of(1000005L, 1000004L),
+                List.of(1000003L, 1000002L),
+                List.of(1000001L));
+        assertThat(page.getSize()).isEqualTo(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void fullLastPageHasNoNext() {
+        Long userId = userFixtures.createId("fullpage");
+        insert(1000011L, userId, AT);
+        insert(1000012L, userId, AT);
+
+        CursorPageDto<RecordView> first = savingRecordService.pageRecords(userId, null, 1);
+        CursorPageDto<RecordView> last = savingRecordService.pageRecords(userId, first.getNextCursor(), 1);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(last.getData()).extracting(RecordView::id).containsExactly(1000011L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+
+        // 커서 이후 기록이 없으면 빈 페이지
+        String afterLast = new RecordCursor(AT, 1000011L).encode();
+        CursorPageDto<RecordView> empty = savingRecordService.pageRecords(userId, afterLast, 1);
+        assertThat(empty.getData()).isEmpty();
+        assertThat(empty.isHasNext()).isFalse();
+    }
+
+    @Test
+    void invalidOrTamperedCursorIsRejected() {
+        Long userId = userFixtures.createId("badcursor");
+        String valid = new RecordCursor(AT, 1000021L).encode();
+
+        for (String cursor : List.of(
+                "not a cursor!",
+                encode("2024-05-10T12:00"),
+                encode("2024-05-10T12:00|abc"),
+                encode("yesterday|1000021"),
+                "Z" + valid.substring(1))) {
+            assertThatThrownBy(() -> savingRecordService.pageRecords(userId, cursor, 20))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
+    }
+
+    @Test
+    void latestRecordsReturnNewestN() {
+        Long userId = userFixtures.createId("latest");
+        insert(1000031L, userId, AT.minusDays(1));
+        insert(1000032L, userId, AT);
+        insert(1000033L, userId, AT);
+        insert(1000034L, userId, AT.minusDays(2));
+
+        assertThat(savingRecordService.getLatestRecords(userId, 3)).extracting(RecordView::id)
+                .containsExactly(1000033L, 1000032L, 1000031L);
+        assertThat(savingRecordService.getLatestRecords(userId, 10)).hasSize(4);
+    }
+
+    private void insert(Long id, Long userId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO saving_records (id, amount, category, created_at, item_name, user_id) " +
+                "VALUES (?, 1000, '음식', ?, '커피', ?)", id, createdAt, userId);
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
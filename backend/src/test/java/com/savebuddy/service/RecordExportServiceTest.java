@@ -0,0 +1,122 @@
+package com.savebuddy.service;
+
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 CSV 내보내기 형식과 대량 기록 스트리밍 확인 (H2 MySQL 모드)
+ * 대량 기록 테스트는 slow 태그 → ./gradlew slowTest 로 힙 512MB 제한 JVM 에서 실행 (100만 건을 한 번에 올리면 OutOfMemoryError)
+ */
+@SaveBuddyJpaTest
+@TestPropertySource(properties = "DEFAULT_TIME_ZONE=Asia/Seoul")
+@Import({RecordExportService.class, PeriodWindow.class})
+class RecordExportServiceTest {
+
+    private static final int LARGE_HISTORY = 1_000_000;
+
+    private static final int INSERT_CHUNK = 10_000;
+
+    @Autowired
+    private RecordExportService recordExportService;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesCsvInUserZoneWithEscapingAndTotal() throws Exception {
+        Long userId = userFixtures.createId("export");
+        // UTC 2024-03-31 15:30 = 서울 2024-04-01 00:30
+        jdbcTemplate.update("INSERT INTO expense_records (id, amount, category, created_at, item_name, memo, user_id) " +
+                "VALUES (1, 4500, '음식', TIMESTAMP '2024-03-31 15:30:00', '커피, 라떼', '=SUM(A1)', ?)", userId);
+        jdbcTemplate.update("INSERT INTO expense_records (id, amount, category, created_at, item_name, memo, user_id) " +
+                "VALUES (2, 1500, '교통', TIMESTAMP '2024-03-30 01:00:00', '버스', NULL, ?)", userId);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = recordExportService.exportCsv(userId, RecordType.EXPENSE, out);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF" +
+                "번호,날짜,시간,항목명,카테고리,소비금액,메모\r\n" +
+                "1,2024-04-01,00:30:00,\"커피, 라떼\",음식,4500,\"'=SUM(A1)\"\r\n" +
+                "2,2024-03-30,10:00:00,버스,교통,1500,-\r\n" +
+                ",,,총 합계,,6000,총 2건\r\n");
+    }
+
+    @Test
+    void escapesFormulaPrefixesIncludingTabAndCarriageReturn() throws Exception {
+        Long userId = userFixtures.createId("formula");
+        String insert = "INSERT INTO saving_records (id, amount, category, created_at, item_name, memo, user_id) " +
+                "VALUES (?, 1000, ?, TIMESTAMP '2024-05-01 03:00:00', ?, ?, ?)";
+        jdbcTemplate.update(insert, 1000001L, "\t=1+2", "\r@SUM(A1)", "+cmd", userId);
+        // 음수와 한 글자 기호는 수식이 아니므로 그대로
+        jdbcTemplate.update(insert, 1000002L, "-5", "@", "-", userId);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordExportService.exportCsv(userId, RecordType.SAVING, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\r\n", -1)).contains(
+                "2,2024-05-01,12:00:00,\"'\r@SUM(A1)\",\"'\t=1+2\",1000,\"'+cmd\"",
+                "1,2024-05-01,12:00:00,@,-5,1000,-");
+    }
+
+    @Test
+    @Tag("slow")
+    void streamsLargeHistoryWithinCappedHeap() throws Exception {
+        Long userId = userFixtures.createId("large");
+        // 한 트랜잭션으로 넣으면 H2 undo 로그가 힙을 채우므로 나눠서 삽입
+        for (int from = 1; from <= LARGE_HISTORY; from += INSERT_CHUNK) {
+            jdbcTemplate.update("INSERT INTO saving_records (id, amount, category, created_at, item_name, memo, user_id) " +
+                    "SELECT X, 1000, '음식', DATEADD('SECOND', -X, TIMESTAMP '2024-06-01 00:00:00'), '커피', " +
+                    "CASE WHEN MOD(X, 10) = 0 THEN '메모' END, ? FROM SYSTEM_RANGE(?, ?)",
+                    userId, from, from + INSERT_CHUNK - 1);
+        }
+
+        CountingOutputStream out = new CountingOutputStream();
+        long count = recordExportService.exportCsv(userId, RecordType.SAVING, out);
+
+        assertThat(count).isEqualTo(LARGE_HISTORY);
+        assertThat(out.lines).isEqualTo(LARGE_HISTORY + 2);
+        assertThat(out.tail()).isEqualTo(",,,총 합계,,1000000000,총 1000000건\r\n");
+    }
+
+
+    // 출력은 버리고 줄 수와 마지막 줄만 보관
+    private static class CountingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+
+        private byte[] lastLine = new byte[0];
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            currentLine.write(b);
+            if (b == '\n') {
+                lines++;
+                lastLine = currentLine.toByteArray();
+                currentLine.reset();
+            }
+        }
+
+        String tail() {
+            return new String(lastLine, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.savebuddy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savebuddy.entity.ChallengeCompletion.ChallengePeriod;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.repository.SavingRecordRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 JSON 응답이 기존 목록 직렬화 결과와 같은지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RecordJsonStreamService.class, SavingRecordService.class, RecordRollupService.class, PeriodWindow.class})
+class RecordJsonStreamServiceTest {
+
+    // 스트리밍 중 영속성 컨텍스트를 여러 번 비우도록 CHUNK_ROWS(500) 보다 많이
+    private static final int HISTORY = 1_234;
+
+    @Autowired
+    private RecordJsonStreamService recordJsonStreamService;
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private SavingRecordRepository savingRecordRepository;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void streamedAllMatchesListSerialization() throws Exception {
+        Long userId = userFixtures.createId("stream");
+        // ID 생성기와 겹치지 않도록 큰 ID 로 직접 삽입
+        jdbcTemplate.update("INSERT INTO saving_records (id, amount, category, created_at, item_name, memo, user_id) " +
+                "SELECT 1000000 + X, X * 10, '음식', DATEADD('MINUTE', -X, TIMESTAMP '2024-06-01 00:00:00'), '커피', " +
+                "CASE WHEN MOD(X, 3) = 0 THEN '메모 \"' || X || '\"' END, ? FROM SYSTEM_RANGE(1, ?)", userId, HISTORY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordJsonStreamService.writeAll(userId, RecordType.SAVING, out);
+
+        String expected = objectMapper.writeValueAsString(savingRecordRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.unlimited()));
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+
+        // 프로젝션(RecordView) 직렬화 결과가 기존 엔티티 응답과 같음
+        JsonNode first = objectMapper.readTree(out.toByteArray()).get(0);
+        assertThat(first).isEqualTo(objectMapper.readTree(
+                objectMapper.writeValueAsString(savingRecordRepository.findById(first.get("id").asLong()).orElseThrow())));
+    }
+
+    @Test
+    void streamedPeriodKeepsRecordInfoShape() throws Exception {
+        Long userId = userFixtures.createId("period");
+        for (int i = 0; i < 3; i++) {
+            savingRecordService.createSavingRecord(userId, "커피", 1000L, "음식", null);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordJsonStreamService.writePeriod(userId, RecordType.SAVING, ChallengePeriod.DAILY, out);
+
+        JsonNode streamed = objectMapper.readTree(out.toByteArray());
+        JsonNode expected = objectMapper.readTree(
+                objectMapper.writeValueAsString(savingRecordService.todayRecords(userId, true)));
+        assertThat(streamed.get("count")).isEqualTo(expected.get("count"));
+        assertThat(streamed.get("totalAmount")).isEqualTo(expected.get("totalAmount"));
+        assertThat(streamed.get("data")).hasSize(3);
+        assertThat(streamed.get("data")).containsExactlyInAnyOrderElementsOf(expected.get("data"));
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.ExpenseRecordDto;
+import com.savebuddy.entity.ExpenseRecord;
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 집계가 기록 등록/삭제/재계산 후 원본 기록 테이블과 일치하는지 확인 (H2 MySQL 모드, 기본 시간대 UTC)
+ */
+@SaveBuddyJpaTest
+@Import({SavingRecordService.class, ExpenseRecordService.class, RecordRollupService.class, PeriodWindow.class})
+class RecordRollupRebuildTest {
+
+    private static final int REQUESTS = 100;
+
+    // ID 블록 할당 시 별도 커넥션을 쓰므로 커넥션 풀(기본 10)보다 적게
+    private static final int THREADS = 8;
+
+    // 원본 기록의 (유형, 날짜, 카테고리) 별 [총액, 건수]
+    private static final String RAW_TOTALS =
+            "SELECT 'SAVING', CAST(created_at AS DATE), COALESCE(category, ''), SUM(amount), COUNT(*) " +
+            "FROM saving_records WHERE user_id = ? GROUP BY CAST(created_at AS DATE), COALESCE(category, '') " +
+            "UNION ALL " +
+            "SELECT 'EXPENSE', CAST(created_at AS DATE), COALESCE(category, ''), SUM(amount), COUNT(*) " +
+            "FROM expense_records WHERE user_id = ? GROUP BY CAST(created_at AS DATE), COALESCE(category, '')";
+
+    private static final String ROLLUP_TOTALS =
+            "SELECT record_type, record_date, category, total_amount, record_count " +
+            "FROM record_daily_rollups WHERE user_id = ?";
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private ExpenseRecordService expenseRecordService;
+
+    @Autowired
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollupsMatchRecordsAfterCreateDeleteAndRebuild() {
+        Long userId = userFixtures.createId("maintain");
+
+        SavingRecord coffee = savingRecordService.createSavingRecord(userId, "커피", 4500L, "음식", null);
+        savingRecordService.createSavingRecord(userId, "도시락", 6000L, "음식", null);
+        SavingRecord noCategory = savingRecordService.createSavingRecord(userId, "기타", 1000L, null, null);
+        List<ExpenseRecord> expenses = expenseRecordService.createExpenseRecords(userId, List.of(
+                ExpenseRecordDto.builder().itemName("택시").amount(12000L).category("교통").build(),
+                ExpenseRecordDto.builder().itemName("버스").amount(1500L).category("교통").build()));
+        assertThat(rollupTotals(userId)).containsExactlyInAnyOrderElementsOf(rawTotals(userId));
+
+        // 삭제: 금액/건수 차감, 0건이 된 카테고리 행은 제거
+        savingRecordService.deleteSavingRecord(coffee.getId(), userId);
+        savingRecordService.deleteSavingRecord(noCategory.getId(), userId);
+        expenseRecordService.deleteExpenseRecord(expenses.get(0).getId(), userId);
+        assertThat(rollupTotals(userId)).hasSize(2).containsExactlyInAnyOrderElementsOf(rawTotals(userId));
+
+        // 어긋난 집계는 재계산으로 원본과 다시 일치
+        jdbcTemplate.update("UPDATE record_daily_rollups SET total_amount = total_amount + 999 WHERE user_id = ?", userId);
+        jdbcTemplate.update("INSERT INTO record_daily_rollups (user_id, record_type, record_date, category, total_amount, record_count) " +
+                "VALUES (?, 'SAVING', DATE '2020-01-01', '유령', 100, 1)", userId);
+        recordRollupService.rebuildAll();
+        assertThat(rollupTotals(userId)).hasSize(2).containsExactlyInAnyOrderElementsOf(rawTotals(userId));
+    }
+
+    @Test
+    void rebuildRacingWithRecordChangesKeepsRollupsExact() throws Exception {
+        Long userId = userFixtures.createId("race");
+        List<SavingRecord> existing = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            existing.add(savingRecordService.createSavingRecord(userId, "커피", 1000L, "음식", null));
+        }
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            tasks.add(() -> savingRecordService.createSavingRecord(userId, "커피", 1000L, "음식", null));
+            tasks.add(() -> expenseRecordService.createExpenseRecord(userId, "택시", 500L, "교통", null));
+            if (i % 10 == 0) {
+                Long recordId = existing.get(i / 10).getId();
+                tasks.add(() -> {
+                    savingRecordService.deleteSavingRecord(recordId, userId);
+                    return null;
+                });
+                tasks.add(() -> {
+                    recordRollupService.rebuildUserAfterCommit(userId);
+                    return null;
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(rollupTotals(userId)).containsExactlyInAnyOrderElementsOf(rawTotals(userId));
+        assertThat(rawTotals(userId)).extracting(row -> row.get(3)).containsExactlyInAnyOrder(
+                REQUESTS * 1000L, REQUESTS * 500L);
+    }
+
+    @Test
+    void rebuildSkipsWhileAnotherInstanceHoldsLock() {
+        Long userId = userFixtures.createId("locked");
+        savingRecordService.createSavingRecord(userId, "커피", 1000L, "음식", null);
+        jdbcTemplate.update("UPDATE record_daily_rollups SET total_amount = 1 WHERE user_id = ?", userId);
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.update("DELETE FROM scheduler_locks WHERE name = ?", RecordRollupService.REBUILD_LOCK);
+        jdbcTemplate.update("INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, 'other')",
+                RecordRollupService.REBUILD_LOCK, now.plusHours(1), now);
+        recordRollupService.rebuildAll();
+        assertThat(rollupTotals(userId)).extracting(row -> row.get(3)).containsExactly(1L);
+
+        // 잠금이 만료되면 (다른 인스턴스 중단) 가져가서 실행하고, 끝나면 해제
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = ? WHERE name = ?",
+                now.minusMinutes(1), RecordRollupService.REBUILD_LOCK);
+        recordRollupService.rebuildAll();
+        assertThat(rollupTotals(userId)).containsExactlyInAnyOrderElementsOf(rawTotals(userId));
+        assertThat(jdbcTemplate.queryForObject("SELECT locked_until FROM scheduler_locks WHERE name = ?",
+                LocalDateTime.class, RecordRollupService.REBUILD_LOCK)).isBefore(now.plusHours(1));
+    }
+
+    private List<List<Object>> rawTotals(Long userId) {
+        return jdbcTemplate.query(RAW_TOTALS, (rs, i) -> List.of(rs.getString(1), rs.getDate(2).toString(),
+                rs.getString(3), rs.getLong(4), rs.getLong(5)), userId, userId);
+    }
+
+    private List<List<Object>> rollupTotals(Long userId) {
+        return jdbcTemplate.query(ROLLUP_TOTALS, (rs, i) -> List.of(rs.getString(1), rs.getDate(2).toString(),
+                rs.getString(3), rs.getLong(4), rs.getLong(5)), userId);
+    }
+}
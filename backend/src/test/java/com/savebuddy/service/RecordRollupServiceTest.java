@@ -0,0 +1,117 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.CategoryStat;
+import com.savebuddy.dto.DailySeries;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리별 통계의 비중/순위/평균, 일자별 총액 배열, 집계 재계산 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@Import({RecordRollupService.class, PeriodWindow.class})
+class RecordRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    @Autowired
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private PeriodWindow periodWindow;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void categoryStatsRankByTotalWithinWindow() {
+        Long userId = userFixtures.createId("rollup");
+
+        apply(userId, DAY, "음식", 3000, 2);
+        apply(userId, DAY.plusDays(1), "음식", 3000, 1);
+        apply(userId, DAY, "교통", 2000, 4);
+        apply(userId, DAY, null, 2000, 1);
+        apply(userId, DAY, "쇼핑", 1000, 1);
+        // 삭제로 0건이 된 카테고리와 기간 밖 기록은 제외
+        apply(userId, DAY, "기타", 500, 1);
+        apply(userId, DAY, "기타", -500, -1);
+        apply(userId, DAY.minusDays(30), "음식", 9000, 1);
+
+        var stats = recordRollupService.categoryStats(userId, RecordType.SAVING,
+                DAY, DAY.plusDays(2), Integer.MAX_VALUE);
+
+        assertThat(stats).containsExactly(
+                new CategoryStat("음식", 6000, 3, 54.5, 1, 2000),
+                new CategoryStat(null, 2000, 1, 18.2, 2, 2000),
+                new CategoryStat("교통", 2000, 4, 18.2, 2, 500),
+                new CategoryStat("쇼핑", 1000, 1, 9.1, 4, 1000));
+
+        // 상위 개수를 제한해도 비중은 기간 전체 총액 기준
+        assertThat(recordRollupService.categoryStats(userId, RecordType.SAVING, DAY, DAY.plusDays(2), 1))
+                .containsExactly(new CategoryStat("음식", 6000, 3, 54.5, 1, 2000));
+    }
+
+    @Test
+    void dailySeriesIsDenseAndDateKeyed() {
+        Long userId = userFixtures.createId("series");
+
+        // 같은 날 여러 카테고리는 합산, 기간 경계 밖(전날/끝날)은 제외
+        apply(userId, DAY, "음식", 1000, 1);
+        apply(userId, DAY, "교통", 500, 1);
+        apply(userId, DAY.plusDays(3), "음식", 2000, 2);
+        apply(userId, DAY.minusDays(1), "음식", 9000, 1);
+        apply(userId, DAY.plusDays(5), "음식", 9000, 1);
+
+        DailySeries series = recordRollupService.dailySeries(userId, RecordType.SAVING, DAY, DAY.plusDays(5));
+
+        assertThat(series.startDate()).isEqualTo(DAY);
+        assertThat(series.endDate()).isEqualTo(DAY.plusDays(4));
+        assertThat(series.amounts()).containsExactly(1500, 0, 0, 2000, 0);
+        assertThat(series.totalAmount()).isEqualTo(3500);
+        assertThat(series.dateAt(3)).isEqualTo(DAY.plusDays(3));
+
+        // 1년 구간도 같은 조회 1회로 빈 날 없이 채움
+        assertThat(recordRollupService.dailySeries(userId, RecordType.SAVING, DAY.minusDays(364), DAY.plusDays(1))
+                .amounts()).hasSize(365).endsWith(1500);
+    }
+
+    @Test
+    void rebuildUserMovesRollupsToNewZoneDate() {
+        Long userId = userFixtures.createId("rezone");
+        // UTC 2024-03-31 15:30 = 서울 2024-04-01 00:30 (기본 시간대 UTC 로 등록)
+        LocalDateTime storedAt = LocalDateTime.of(2024, 3, 31, 15, 30);
+        jdbcTemplate.update("INSERT INTO saving_records (id, amount, category, created_at, item_name, user_id) " +
+                "VALUES (1000001, 1000, '음식', ?, '커피', ?)", storedAt, userId);
+        recordRollupService.apply(userId, RecordType.SAVING, storedAt, "음식", 1000, 1);
+
+        jdbcTemplate.update("UPDATE users SET time_zone = 'Asia/Seoul' WHERE id = ?", userId);
+        periodWindow.invalidateZone(userId);
+        recordRollupService.rebuildUser(userId);
+
+        LocalDate march31 = LocalDate.of(2024, 3, 31);
+        assertThat(recordRollupService.dailySeries(userId, RecordType.SAVING, march31, march31.plusDays(2))
+                .amounts()).containsExactly(0, 1000);
+
+        // 이후 삭제분도 등록 때와 같은 날짜에 반영되어 집계가 남지 않음
+        recordRollupService.apply(userId, RecordType.SAVING, storedAt, "음식", -1000, -1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM record_daily_rollups WHERE user_id = ?", Long.class, userId)).isZero();
+    }
+
+    private void apply(Long userId, LocalDate date, String category, long amount, long count) {
+        recordRollupService.apply(userId, RecordType.SAVING, date.atTime(12, 0), category, amount, count);
+    }
+}
@@ -0,0 +1,116 @@
+package com.savebuddy.service;
+
+import com.savebuddy.dto.SavingRecordDto;
+import com.savebuddy.entity.SavingRecord;
+import com.savebuddy.entity.RecordDailyRollup.RecordType;
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.OAuth2UserRepository;
+import com.savebuddy.support.SaveBuddyJpaTest;
+import com.savebuddy.support.UserFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 사용자의 동시 기록 등록 시 누적 금액/경험치가 유실되지 않는지 확인 (H2 MySQL 모드)
+ */
+@SaveBuddyJpaTest
+@Import({SavingRecordService.class, ExpenseRecordService.class, RecordRollupService.class, PeriodWindow.class})
+class RecordTotalsConcurrencyTest {
+
+    private static final int REQUESTS = 300;
+
+    // ID 블록 할당 시 별도 커넥션을 쓰므로 커넥션 풀(기본 10)보다 적게
+    private static final int THREADS = 8;
+
+    @Autowired
+    private SavingRecordService savingRecordService;
+
+    @Autowired
+    private ExpenseRecordService expenseRecordService;
+
+    @Autowired
+    private RecordRollupService recordRollupService;
+
+    @Autowired
+    private OAuth2UserRepository oAuth2UserRepository;
+
+    @Autowired
+    private UserFixtures userFixtures;
+
+    @Test
+    void parallelRecordCreationKeepsTotalsExact() throws Exception {
+        Long userId = userFixtures.createId("concurrency");
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            tasks.add(() -> savingRecordService.createSavingRecord(userId, "커피", 1000L, "음식", null));
+            tasks.add(() -> expenseRecordService.createExpenseRecord(userId, "택시", 500L, "교통", null));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        User result = oAuth2UserRepository.findById(userId).orElseThrow();
+        assertThat(result.getTotalSavings()).isEqualTo(REQUESTS * 1000L);
+        assertThat(result.getTotalExpense()).isEqualTo(REQUESTS * 500L);
+        assertThat(result.getExperience()).isEqualTo(REQUESTS * 10);
+        assertThat(result.getLevel()).isEqualTo(REQUESTS * 10 / 100 + 1);
+    }
+
+    @Test
+    void batchCreationAppliesAggregatedTotals() {
+        Long userId = userFixtures.createId("batch");
+
+        List<SavingRecordDto> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            requests.add(SavingRecordDto.builder()
+                    .itemName("커피").amount(1000L).category(i % 2 == 0 ? "음식" : null).build());
+        }
+
+        List<SavingRecord> records = savingRecordService.createSavingRecords(userId, requests);
+
+        assertThat(records).hasSize(120).allSatisfy(record -> assertThat(record.getId()).isNotNull());
+        User result = oAuth2UserRepository.findById(userId).orElseThrow();
+        assertThat(result.getTotalSavings()).isEqualTo(120_000L);
+        assertThat(result.getExperience()).isEqualTo(1200);
+        assertThat(result.getLevel()).isEqualTo(13);
+
+        LocalDate today = LocalDate.now();
+        var total = recordRollupService.sumBetween(userId, RecordType.SAVING, today, today.plusDays(1));
+        assertThat(total.getTotalAmount()).isEqualTo(120_000L);
+        assertThat(total.getRecordCount()).isEqualTo(120L);
+    }
+
+    @Test
+    void batchCreationRejectsWholeBatchOnInvalidEntry() {
+        Long userId = userFixtures.createId("invalid");
+
+        List<SavingRecordDto> requests = List.of(
+                SavingRecordDto.builder().itemName("커피").amount(1000L).build(),
+                SavingRecordDto.builder().itemName(" ").amount(1000L).build());
+
+        assertThatThrownBy(() -> savingRecordService.createSavingRecords(userId, requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째");
+        assertThat(oAuth2UserRepository.findById(userId).orElseThrow().getTotalSavings()).isZero();
+    }
+
+}
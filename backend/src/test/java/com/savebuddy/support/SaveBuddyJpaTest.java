@@ -0,0 +1,31 @@
+package com.savebuddy.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2(MySQL 모드) 기반 JPA 테스트 공통 설정
+ * - 접속 정보/기본 시간대는 application-test.properties (클래스별 변경은 @TestPropertySource)
+ * - 테스트 메서드는 트랜잭션 없이 실행 (서비스 트랜잭션 경계와 동시성을 그대로 확인)
+ * - 사용자 생성은 UserFixtures
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserFixtures.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public @interface SaveBuddyJpaTest {
+}
@@ -0,0 +1,29 @@
+package com.savebuddy.support;
+
+import com.savebuddy.entity.User;
+import com.savebuddy.repository.OAuth2UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 테스트 사용자 생성 (이메일은 name@savebuddy.com)
+ */
+@TestComponent
+public class UserFixtures {
+
+    private final OAuth2UserRepository oAuth2UserRepository;
+
+    public UserFixtures(OAuth2UserRepository oAuth2UserRepository) {
+        this.oAuth2UserRepository = oAuth2UserRepository;
+    }
+
+    public User create(String name) {
+        User user = new User();
+        user.setEmail(name + "@savebuddy.com");
+        user.setUsername(name);
+        return oAuth2UserRepository.save(user);
+    }
+
+    public Long createId(String name) {
+        return create(name).getId();
+    }
+}